@@ -105,3 +105,12 @@ CREATE TABLE GRADE_SUMMARY (
     INDEX idx_semester (semester),
     FOREIGN KEY (student_id) REFERENCES STUDENTS(student_id) ON DELETE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE CACHE_INVALIDATION_OUTBOX (
+    outbox_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    event_type VARCHAR(30) NOT NULL,
+    student_id BIGINT NULL,
+    semester VARCHAR(20) NOT NULL,
+    created_at DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    INDEX idx_outbox_created_at (created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,125 @@
+package com.university.grade.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.university.grade.dto.GradeDetailResponse;
+import com.university.grade.dto.GradeSummaryResponse;
+import com.university.grade.mapper.GradeDetailMapper;
+import com.university.grade.repository.projection.GradeDetailProjection;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Representative payloads: one student, one semester, a typical course load.
+ */
+final class BenchmarkFixtures {
+    static final Long STUDENT_ID = 20241234L;
+    static final String SEMESTER = "2024-1";
+    static final int COURSE_COUNT = 7;
+
+    private static final String[] LETTERS = { "A+", "A0", "B+", "A+", "B0", "A0", "P" };
+
+    private BenchmarkFixtures() {
+    }
+
+    /** Same settings Spring Boot applies to the application ObjectMapper. */
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    static GradeSummaryResponse summary() {
+        return new GradeSummaryResponse(STUDENT_ID, SEMESTER, new BigDecimal("3.87"), 19,
+                LocalDateTime.of(2024, 6, 28, 17, 30, 12));
+    }
+
+    static List<GradeDetailProjection> gradeProjections() {
+        List<GradeDetailProjection> result = new ArrayList<>(COURSE_COUNT);
+        for (int i = 0; i < COURSE_COUNT; i++) {
+            result.add(new StubGradeDetailProjection(
+                    1_000_000L + i,
+                    "CSE" + (3100 + i * 7),
+                    "고급 소프트웨어 공학 특강 " + (i + 1),
+                    i == 6 ? 1 : 3,
+                    new BigDecimal(i == 6 ? "100.00" : (88 + i) + ".50"),
+                    LETTERS[i],
+                    Boolean.TRUE,
+                    LocalDateTime.of(2024, 6, 25 + i % 3, 10 + i, 15, 0)));
+        }
+        return result;
+    }
+
+    static List<GradeDetailResponse> gradeList() {
+        GradeDetailMapper mapper = new GradeDetailMapper();
+        List<GradeDetailResponse> result = new ArrayList<>(COURSE_COUNT);
+        for (GradeDetailProjection projection : gradeProjections()) {
+            result.add(mapper.toDto(projection));
+        }
+        return result;
+    }
+
+    static JwtAuthenticationToken jwtAuthentication() {
+        Jwt jwt = Jwt.withTokenValue("benchmark-token")
+                .header("alg", "RS256")
+                .subject("student-" + STUDENT_ID)
+                .claim("studentId", STUDENT_ID)
+                .issuedAt(Instant.parse("2024-06-28T00:00:00Z"))
+                .expiresAt(Instant.parse("2024-06-28T01:00:00Z"))
+                .build();
+        return new JwtAuthenticationToken(jwt, AuthorityUtils.NO_AUTHORITIES);
+    }
+
+    record StubGradeDetailProjection(Long enrollmentId, String courseCode, String courseName, Integer credit,
+            BigDecimal score, String gradeLetter, Boolean isFinalized, LocalDateTime finalizedAt)
+            implements GradeDetailProjection {
+
+        @Override
+        public Long getEnrollmentId() {
+            return enrollmentId;
+        }
+
+        @Override
+        public String getCourseCode() {
+            return courseCode;
+        }
+
+        @Override
+        public String getCourseName() {
+            return courseName;
+        }
+
+        @Override
+        public Integer getCredit() {
+            return credit;
+        }
+
+        @Override
+        public BigDecimal getScore() {
+            return score;
+        }
+
+        @Override
+        public String getGradeLetter() {
+            return gradeLetter;
+        }
+
+        @Override
+        public Boolean getIsFinalized() {
+            return isFinalized;
+        }
+
+        @Override
+        public LocalDateTime getFinalizedAt() {
+            return finalizedAt;
+        }
+    }
+}
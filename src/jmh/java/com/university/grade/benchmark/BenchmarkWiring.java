@@ -0,0 +1,93 @@
+package com.university.grade.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.university.grade.cache.GradeListCache;
+import com.university.grade.cache.GradeReleasePolicyCache;
+import com.university.grade.cache.GradeSummaryCache;
+import com.university.grade.cache.NearCacheManager;
+import com.university.grade.cache.SemesterGenerations;
+import com.university.grade.cache.SingleFlight;
+import com.university.grade.cache.StaleRefresher;
+import com.university.grade.cache.codec.CacheFormat;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.time.Duration;
+
+/**
+ * Hand-wires the cache layer over fake Redis, mirroring the Spring configuration.
+ */
+final class BenchmarkWiring {
+    final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    final PlatformTransactionManager transactionManager = new NoOpTransactionManager();
+    final ObjectMapper objectMapper = BenchmarkFixtures.objectMapper();
+    final FakeRedisTemplate<String> stringRedis;
+    final FakeRedisTemplate<byte[]> binaryRedis;
+    final FakeReactiveRedisTemplate<String> reactiveStringRedis;
+    final FakeReactiveRedisTemplate<byte[]> reactiveBinaryRedis;
+    final NearCacheManager nearCacheManager;
+    final SingleFlight singleFlight;
+    final SemesterGenerations generations;
+    final StaleRefresher staleRefresher;
+
+    /**
+     * @param nearCacheEnabled serve repeats from the in-process L1
+     * @param dropWrites       make every Redis read a miss
+     */
+    BenchmarkWiring(boolean nearCacheEnabled, boolean dropWrites) {
+        this.stringRedis = new FakeRedisTemplate<>(false);
+        this.binaryRedis = new FakeRedisTemplate<>(dropWrites);
+        this.reactiveStringRedis = new FakeReactiveRedisTemplate<>(stringRedis);
+        this.reactiveBinaryRedis = new FakeReactiveRedisTemplate<>(binaryRedis);
+        this.nearCacheManager = new NearCacheManager(stringRedis, meterRegistry, nearCacheEnabled, 10_000,
+                Duration.ofSeconds(5));
+        this.singleFlight = new SingleFlight(stringRedis, meterRegistry, false, Duration.ofSeconds(3),
+                Duration.ofMillis(500), Duration.ofMillis(25));
+        this.generations = new SemesterGenerations(stringRedis, meterRegistry, Duration.ofSeconds(5));
+        // Early refresh is off and entries stay fresh for a run, so only inline loads on a miss open a transaction
+        this.staleRefresher = new StaleRefresher(stringRedis, transactionManager, meterRegistry,
+                Duration.ofMinutes(5), Duration.ofHours(1), 1, Duration.ofSeconds(10), 0, Duration.ofMillis(50));
+    }
+
+    GradeSummaryCache summaryCache(CacheFormat format) {
+        return new GradeSummaryCache(binaryRedis, reactiveBinaryRedis, objectMapper, nearCacheManager, singleFlight, generations,
+                staleRefresher, meterRegistry, format, Duration.ofMinutes(5));
+    }
+
+    GradeListCache listCache(CacheFormat format) {
+        return new GradeListCache(binaryRedis, reactiveBinaryRedis, objectMapper, nearCacheManager, singleFlight, generations,
+                staleRefresher, meterRegistry, format, Duration.ofMinutes(5));
+    }
+
+    GradeReleasePolicyCache releasePolicyCache() {
+        return new GradeReleasePolicyCache(stringRedis, reactiveStringRedis);
+    }
+
+    /**
+     * Runs transactions without a resource; the fake repositories have no connection to bind.
+     */
+    private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.university.grade.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.university.grade.cache.codec.CacheCodec;
+import com.university.grade.cache.codec.CacheFormat;
+import com.university.grade.cache.codec.GradeCacheCodecs;
+import com.university.grade.dto.GradeDetailResponse;
+import com.university.grade.dto.GradeSummaryResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson vs compact binary vs gzip-compressed JSON (passthrough) cache payloads. Encoded sizes are
+ * printed at setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CacheCodecBenchmark {
+
+    @Param({ "JSON", "BINARY", "GZIP_JSON" })
+    public CacheFormat format;
+
+    private CacheCodec<GradeSummaryResponse> summaryCodec;
+    private CacheCodec<List<GradeDetailResponse>> listCodec;
+    private GradeSummaryResponse summary;
+    private List<GradeDetailResponse> gradeList;
+    private byte[] encodedSummary;
+    private byte[] encodedList;
+
+    @Setup
+    public void setup() throws IOException {
+        ObjectMapper objectMapper = BenchmarkFixtures.objectMapper();
+        summaryCodec = GradeCacheCodecs.summary(format, objectMapper);
+        listCodec = GradeCacheCodecs.list(format, objectMapper);
+        summary = BenchmarkFixtures.summary();
+        gradeList = BenchmarkFixtures.gradeList();
+        encodedSummary = summaryCodec.encode(summary);
+        encodedList = listCodec.encode(gradeList);
+        System.out.printf("%n[%s] summary=%d bytes, list(%d courses)=%d bytes%n",
+                format, encodedSummary.length, gradeList.size(), encodedList.length);
+    }
+
+    @Benchmark
+    public byte[] encodeSummary() throws IOException {
+        return summaryCodec.encode(summary);
+    }
+
+    @Benchmark
+    public GradeSummaryResponse decodeSummary() throws IOException {
+        return summaryCodec.decode(encodedSummary);
+    }
+
+    @Benchmark
+    public byte[] encodeList() throws IOException {
+        return listCodec.encode(gradeList);
+    }
+
+    @Benchmark
+    public List<GradeDetailResponse> decodeList() throws IOException {
+        return listCodec.decode(encodedList);
+    }
+}
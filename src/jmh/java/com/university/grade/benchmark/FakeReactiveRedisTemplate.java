@@ -0,0 +1,93 @@
+package com.university.grade.benchmark;
+
+import org.springframework.data.redis.connection.ReactiveRedisConnection;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.ReactiveStringCommands;
+import org.springframework.data.redis.core.ReactiveRedisCallback;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Async view over a {@link FakeRedisTemplate} store; reads complete immediately.
+ * Only value GET/MGET and, through {@link #execute}, binary GETRANGE are supported - the caches
+ * never write through the async path.
+ */
+class FakeReactiveRedisTemplate<V> extends ReactiveRedisTemplate<String, V> {
+
+    private final ReactiveValueOperations<String, V> valueOperations;
+    private final ReactiveRedisConnection connection;
+
+    @SuppressWarnings("unchecked")
+    FakeReactiveRedisTemplate(FakeRedisTemplate<V> backing) {
+        super((ReactiveRedisConnectionFactory) Proxy.newProxyInstance(
+                ReactiveRedisConnectionFactory.class.getClassLoader(),
+                new Class<?>[] { ReactiveRedisConnectionFactory.class },
+                (proxy, method, args) -> {
+                    throw new UnsupportedOperationException(method.getName());
+                }),
+                RedisSerializationContext.<String, V>newSerializationContext(new StringRedisSerializer()).build());
+        this.valueOperations = (ReactiveValueOperations<String, V>) Proxy.newProxyInstance(
+                ReactiveValueOperations.class.getClassLoader(),
+                new Class<?>[] { ReactiveValueOperations.class },
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "get" -> Mono.justOrEmpty(backing.opsForValue().get(args[0]));
+                    case "multiGet" -> {
+                        List<V> values = new ArrayList<>();
+                        for (Object key : (Collection<?>) args[0]) {
+                            values.add(backing.opsForValue().get(key));
+                        }
+                        yield Mono.just(values);
+                    }
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "FakeReactiveValueOperations";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        ReactiveStringCommands stringCommands = (ReactiveStringCommands) Proxy.newProxyInstance(
+                ReactiveStringCommands.class.getClassLoader(),
+                new Class<?>[] { ReactiveStringCommands.class },
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("getRange") || args.length != 3) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    String key = StandardCharsets.UTF_8.decode(((ByteBuffer) args[0]).duplicate()).toString();
+                    Object value = backing.opsForValue().get(key);
+                    if (!(value instanceof byte[] bytes)) {
+                        return Mono.just(ByteBuffer.allocate(0));
+                    }
+                    int end = (int) Math.min((long) args[2], bytes.length - 1);
+                    return Mono.just(ByteBuffer.wrap(Arrays.copyOfRange(bytes, (int) (long) args[1], end + 1)));
+                });
+        this.connection = (ReactiveRedisConnection) Proxy.newProxyInstance(
+                ReactiveRedisConnection.class.getClassLoader(),
+                new Class<?>[] { ReactiveRedisConnection.class },
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "stringCommands" -> stringCommands;
+                    case "closeLater" -> Mono.empty();
+                    case "close" -> null;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    @Override
+    public <T> Flux<T> execute(ReactiveRedisCallback<T> action) {
+        return Flux.from(action.doInRedis(connection));
+    }
+
+    @Override
+    public ReactiveValueOperations<String, V> opsForValue() {
+        return valueOperations;
+    }
+}
@@ -0,0 +1,69 @@
+package com.university.grade.benchmark;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory stand-in for Redis so benchmarks measure our code, not the network.
+ * Only the value operations used by the caches are supported; TTLs are ignored.
+ */
+class FakeRedisTemplate<V> extends RedisTemplate<String, V> {
+
+    private final Map<String, V> store = new ConcurrentHashMap<>();
+    private final boolean dropWrites;
+    private final ValueOperations<String, V> valueOperations;
+
+    /**
+     * @param dropWrites discard every write so each read is a miss
+     */
+    @SuppressWarnings("unchecked")
+    FakeRedisTemplate(boolean dropWrites) {
+        this.dropWrites = dropWrites;
+        this.valueOperations = (ValueOperations<String, V>) Proxy.newProxyInstance(
+                ValueOperations.class.getClassLoader(),
+                new Class<?>[] { ValueOperations.class },
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "get" -> store.get(args[0]);
+                    case "set" -> {
+                        if (!dropWrites) {
+                            store.put((String) args[0], (V) args[1]);
+                        }
+                        yield null;
+                    }
+                    case "setIfAbsent" -> dropWrites || store.putIfAbsent((String) args[0], (V) args[1]) == null;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "FakeValueOperations";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    void seed(String key, V value) {
+        store.put(key, value);
+    }
+
+    @Override
+    public ValueOperations<String, V> opsForValue() {
+        return valueOperations;
+    }
+
+    @Override
+    public Boolean delete(String key) {
+        return store.remove(key) != null;
+    }
+
+    @Override
+    public Long delete(Collection<String> keys) {
+        return keys.stream().filter(key -> store.remove(key) != null).count();
+    }
+
+    @Override
+    public Long convertAndSend(String channel, Object message) {
+        return 0L;
+    }
+}
@@ -0,0 +1,46 @@
+package com.university.grade.benchmark;
+
+import com.university.grade.dto.GradeDetailResponse;
+import com.university.grade.mapper.GradeDetailMapper;
+import com.university.grade.repository.projection.GradeDetailProjection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GradeDetailMapperBenchmark {
+
+    private GradeDetailMapper mapper;
+    private GradeDetailProjection projection;
+    private List<GradeDetailProjection> projections;
+
+    @Setup
+    public void setup() {
+        mapper = new GradeDetailMapper();
+        projections = BenchmarkFixtures.gradeProjections();
+        projection = projections.get(0);
+    }
+
+    @Benchmark
+    public GradeDetailResponse toDto() {
+        return mapper.toDto(projection);
+    }
+
+    /** The shape used by GradeInquiryService on a list miss. */
+    @Benchmark
+    public List<GradeDetailResponse> toDtoList() {
+        return projections.stream()
+                .map(mapper::toDto)
+                .collect(Collectors.toList());
+    }
+}
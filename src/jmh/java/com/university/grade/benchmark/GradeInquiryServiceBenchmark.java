@@ -0,0 +1,127 @@
+package com.university.grade.benchmark;
+
+import com.university.grade.cache.GradeCacheBatchReader;
+import com.university.grade.cache.GradeListCache;
+import com.university.grade.cache.GradeReleasePolicyCache;
+import com.university.grade.cache.GradeSummaryCache;
+import com.university.grade.cache.codec.CacheFormat;
+import com.university.grade.dto.GradeDetailResponse;
+import com.university.grade.mapper.GradeDetailMapper;
+import com.university.grade.mapper.GradeSummaryMapper;
+import com.university.grade.repository.command.GradeReleasePolicyCommandRepository;
+import com.university.grade.repository.projection.GradeDetailProjection;
+import com.university.grade.repository.projection.GradeReleasePolicyProjection;
+import com.university.grade.repository.projection.GradeReleaseStatusProjection;
+import com.university.grade.repository.query.GradeListQueryRepository;
+import com.university.grade.repository.query.GradeSummaryQueryRepository;
+import com.university.grade.service.AsyncGradeInquiryService;
+import com.university.grade.service.GradeInquiryService;
+import com.university.grade.service.GradeReleasePolicyService;
+import com.university.grade.service.GradeReleasePolicySnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full GradeInquiryService.getGradeList with stubbed repositories and in-memory Redis.
+ * NEAR_HIT: served from L1, REDIS_HIT: Redis read + decode, MISS: loader + mapper + cache write.
+ * The release policy always comes from a loaded in-process snapshot, as in production.
+ * The async variant measures the CompletableFuture composition of AsyncGradeInquiryService on top.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GradeInquiryServiceBenchmark {
+
+    public enum Scenario {
+        NEAR_HIT,
+        REDIS_HIT,
+        MISS
+    }
+
+    @Param({ "NEAR_HIT", "REDIS_HIT", "MISS" })
+    public Scenario scenario;
+
+    @Param({ "BINARY" })
+    public CacheFormat format;
+
+    private GradeInquiryService service;
+    private AsyncGradeInquiryService asyncService;
+
+    @Setup
+    public void setup() {
+        BenchmarkWiring wiring = new BenchmarkWiring(scenario == Scenario.NEAR_HIT, scenario == Scenario.MISS);
+        wiring.stringRedis.seed("grade:release:" + BenchmarkFixtures.SEMESTER, "true");
+
+        List<GradeDetailProjection> projections = BenchmarkFixtures.gradeProjections();
+        GradeListQueryRepository listRepository = StubRepositories.stub(GradeListQueryRepository.class,
+                Map.of("findGradeDetailsByStudentIdAndSemester", args -> projections));
+        GradeSummaryQueryRepository summaryRepository = StubRepositories.stub(GradeSummaryQueryRepository.class,
+                Map.of());
+        GradeReleasePolicyProjection released = StubRepositories.stub(GradeReleasePolicyProjection.class,
+                Map.of("getIsReleased", args -> Boolean.TRUE));
+        GradeReleaseStatusProjection releaseStatus = StubRepositories.stub(GradeReleaseStatusProjection.class,
+                Map.of("getSemester", args -> BenchmarkFixtures.SEMESTER, "getIsReleased", args -> Boolean.TRUE,
+                        "getReleaseAt", args -> null));
+        GradeReleasePolicyCommandRepository policyRepository = StubRepositories.stub(
+                GradeReleasePolicyCommandRepository.class,
+                Map.of("findReleaseStatusBySemester", args -> Optional.of(released),
+                        "findAllReleaseStatuses", args -> List.of(releaseStatus)));
+
+        GradeReleasePolicyCache policyCache = wiring.releasePolicyCache();
+        GradeSummaryCache summaryCache = wiring.summaryCache(format);
+        GradeListCache listCache = wiring.listCache(format);
+        GradeReleasePolicySnapshot policySnapshot = new GradeReleasePolicySnapshot(policyRepository, policyCache,
+                null, wiring.stringRedis, wiring.meterRegistry, false, Duration.ofSeconds(30), Duration.ZERO,
+                ZoneOffset.UTC);
+        policySnapshot.refresh();
+        GradeReleasePolicyService policyService = new GradeReleasePolicyService(policyCache, policyRepository, null, null,
+                policySnapshot, null, ZoneOffset.UTC);
+        service = new GradeInquiryService(
+                summaryCache,
+                listCache,
+                policyService,
+                summaryRepository,
+                listRepository,
+                new GradeDetailMapper(),
+                new GradeSummaryMapper(),
+                wiring.transactionManager,
+                wiring.meterRegistry,
+                false);
+
+        asyncService = new AsyncGradeInquiryService(service, policyService, policySnapshot, policyCache,
+                summaryCache, listCache, new GradeCacheBatchReader(wiring.reactiveBinaryRedis, policyCache, summaryCache, listCache),
+                wiring.meterRegistry, false, false, 4, 1000, 16);
+
+        // Prime Redis and L1 for the hit scenarios
+        service.getGradeList(BenchmarkFixtures.STUDENT_ID, BenchmarkFixtures.SEMESTER);
+    }
+
+    @Benchmark
+    public List<GradeDetailResponse> getGradeList() {
+        return service.getGradeList(BenchmarkFixtures.STUDENT_ID, BenchmarkFixtures.SEMESTER).value();
+    }
+
+    @Benchmark
+    public List<GradeDetailResponse> getGradeListAsync() {
+        return asyncService.getGradeList(BenchmarkFixtures.STUDENT_ID, BenchmarkFixtures.SEMESTER).join().value();
+    }
+
+    @TearDown
+    public void tearDown() {
+        asyncService.shutdown();
+    }
+}
@@ -0,0 +1,108 @@
+package com.university.grade.benchmark;
+
+import com.university.grade.cache.GradeCacheBatchReader;
+import com.university.grade.cache.GradeListCache;
+import com.university.grade.cache.GradeReleasePolicyCache;
+import com.university.grade.cache.GradeSummaryCache;
+import com.university.grade.cache.codec.CacheFormat;
+import com.university.grade.exception.GradeNotReleasedException;
+import com.university.grade.mapper.GradeDetailMapper;
+import com.university.grade.mapper.GradeSummaryMapper;
+import com.university.grade.repository.command.GradeReleasePolicyCommandRepository;
+import com.university.grade.repository.projection.GradeReleaseStatusProjection;
+import com.university.grade.repository.query.GradeListQueryRepository;
+import com.university.grade.repository.query.GradeSummaryQueryRepository;
+import com.university.grade.service.AsyncGradeInquiryService;
+import com.university.grade.service.GradeInquiryService;
+import com.university.grade.service.GradeReleasePolicyService;
+import com.university.grade.service.GradeReleasePolicySnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pre-release polling: every inquiry is for a semester the in-process snapshot reports as not
+ * released. rejectedInquiry / rejectedInquiryAsync run the real service paths, which throw the
+ * shared stackless {@link GradeNotReleasedException}. {@link RejectionDepthBenchmark} isolates the
+ * exception cost itself.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class GradeRejectionBenchmark {
+    private static final String UNRELEASED_SEMESTER = "2024-2";
+
+    private GradeInquiryService service;
+    private AsyncGradeInquiryService asyncService;
+
+    @Setup
+    public void setup() {
+        BenchmarkWiring wiring = new BenchmarkWiring(false, false);
+
+        GradeReleaseStatusProjection notReleased = StubRepositories.stub(GradeReleaseStatusProjection.class,
+                Map.of("getSemester", args -> UNRELEASED_SEMESTER, "getIsReleased", args -> Boolean.FALSE,
+                        "getReleaseAt", args -> null));
+        GradeReleasePolicyCommandRepository policyRepository = StubRepositories.stub(
+                GradeReleasePolicyCommandRepository.class,
+                Map.of("findAllReleaseStatuses", args -> List.of(notReleased)));
+
+        GradeReleasePolicyCache policyCache = wiring.releasePolicyCache();
+        GradeSummaryCache summaryCache = wiring.summaryCache(CacheFormat.BINARY);
+        GradeListCache listCache = wiring.listCache(CacheFormat.BINARY);
+        GradeReleasePolicySnapshot policySnapshot = new GradeReleasePolicySnapshot(policyRepository, policyCache,
+                null, wiring.stringRedis, wiring.meterRegistry, false, Duration.ofSeconds(30), Duration.ZERO,
+                ZoneOffset.UTC);
+        policySnapshot.refresh();
+        GradeReleasePolicyService policyService = new GradeReleasePolicyService(policyCache, policyRepository, null, null,
+                policySnapshot, null, ZoneOffset.UTC);
+        service = new GradeInquiryService(
+                summaryCache,
+                listCache,
+                policyService,
+                StubRepositories.stub(GradeSummaryQueryRepository.class, Map.of()),
+                StubRepositories.stub(GradeListQueryRepository.class, Map.of()),
+                new GradeDetailMapper(),
+                new GradeSummaryMapper(),
+                wiring.transactionManager,
+                wiring.meterRegistry,
+                false);
+
+        asyncService = new AsyncGradeInquiryService(service, policyService, policySnapshot, policyCache,
+                summaryCache, listCache, new GradeCacheBatchReader(wiring.reactiveBinaryRedis, policyCache, summaryCache, listCache),
+                wiring.meterRegistry, false, false, 4, 1000, 16);
+    }
+
+    @Benchmark
+    public Object rejectedInquiry() {
+        try {
+            return service.getGradeSummary(BenchmarkFixtures.STUDENT_ID, UNRELEASED_SEMESTER);
+        } catch (GradeNotReleasedException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object rejectedInquiryAsync() {
+        return asyncService.getGradeSummary(BenchmarkFixtures.STUDENT_ID, UNRELEASED_SEMESTER)
+                .handle((result, e) -> e)
+                .join();
+    }
+
+    @TearDown
+    public void tearDown() {
+        asyncService.shutdown();
+    }
+}
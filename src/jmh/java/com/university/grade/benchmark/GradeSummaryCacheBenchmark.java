@@ -0,0 +1,51 @@
+package com.university.grade.benchmark;
+
+import com.university.grade.cache.GradeSummaryCache;
+import com.university.grade.cache.codec.CacheFormat;
+import com.university.grade.dto.GradeSummaryResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GradeSummaryCache over an in-memory Redis: codec, key building, L1 and metrics overhead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GradeSummaryCacheBenchmark {
+
+    @Param({ "JSON", "BINARY" })
+    public CacheFormat format;
+
+    @Param({ "false", "true" })
+    public boolean nearCache;
+
+    private GradeSummaryCache cache;
+    private GradeSummaryResponse summary;
+
+    @Setup
+    public void setup() {
+        cache = new BenchmarkWiring(nearCache, false).summaryCache(format);
+        summary = BenchmarkFixtures.summary();
+        cache.put(BenchmarkFixtures.STUDENT_ID, BenchmarkFixtures.SEMESTER, summary);
+    }
+
+    @Benchmark
+    public Optional<GradeSummaryResponse> get() {
+        return cache.get(BenchmarkFixtures.STUDENT_ID, BenchmarkFixtures.SEMESTER);
+    }
+
+    @Benchmark
+    public void put() {
+        cache.put(BenchmarkFixtures.STUDENT_ID, BenchmarkFixtures.SEMESTER, summary);
+    }
+}
@@ -0,0 +1,49 @@
+package com.university.grade.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.university.grade.dto.GradeDetailResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * List&lt;GradeDetailResponse&gt; through Jackson - the response body write and the legacy cache format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JacksonSerializationBenchmark {
+
+    private static final TypeReference<List<GradeDetailResponse>> LIST_TYPE = new TypeReference<>() {
+    };
+
+    private ObjectMapper objectMapper;
+    private List<GradeDetailResponse> gradeList;
+    private String json;
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        objectMapper = BenchmarkFixtures.objectMapper();
+        gradeList = BenchmarkFixtures.gradeList();
+        json = objectMapper.writeValueAsString(gradeList);
+    }
+
+    @Benchmark
+    public String serializeList() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(gradeList);
+    }
+
+    @Benchmark
+    public List<GradeDetailResponse> deserializeList() throws JsonProcessingException {
+        return objectMapper.readValue(json, LIST_TYPE);
+    }
+}
@@ -0,0 +1,54 @@
+package com.university.grade.benchmark;
+
+import com.university.grade.exception.GradeNotReleasedException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Isolates the cost of the pre-release rejection at a stack depth comparable to the Spring MVC +
+ * transaction proxy frames above the service in production: a freshly allocated
+ * IllegalStateException (the previous behaviour) against the shared stackless
+ * {@link GradeNotReleasedException}. {@link GradeRejectionBenchmark} measures the real service paths.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class RejectionDepthBenchmark {
+
+    @Param({ "40", "120" })
+    public int depth;
+
+    @Benchmark
+    public Object throwAtDepthAllocated() {
+        try {
+            return descend(depth, false);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object throwAtDepthShared() {
+        try {
+            return descend(depth, true);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    private static Object descend(int remaining, boolean shared) {
+        if (remaining > 0) {
+            return descend(remaining - 1, shared);
+        }
+        throw shared ? GradeNotReleasedException.INSTANCE : new IllegalStateException("성적 공개 기간이 아닙니다.");
+    }
+}
@@ -0,0 +1,31 @@
+package com.university.grade.benchmark;
+
+import com.university.grade.util.SecurityUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SecurityUtilBenchmark {
+
+    private JwtAuthenticationToken authentication;
+
+    @Setup
+    public void setup() {
+        authentication = BenchmarkFixtures.jwtAuthentication();
+    }
+
+    @Benchmark
+    public Long extractStudentIdFromJwt() {
+        return SecurityUtil.extractStudentIdFromAuthentication(authentication);
+    }
+}
@@ -0,0 +1,165 @@
+package com.university.grade.cache;
+
+import com.university.grade.dto.CacheResult;
+import com.university.grade.dto.GradeDetailResponse;
+import com.university.grade.dto.GradeSummaryResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Reads release policies and grade payloads for several semesters in one Redis round trip.
+ * L1 entries and policies the caller already knows are taken locally; every remaining key goes
+ * into a single async MGET. All keys use the String serializer, so the policy values come
+ * back as raw UTF-8 bytes on the binary template.
+ */
+@Component
+public class GradeCacheBatchReader {
+    private static final Logger logger = LoggerFactory.getLogger(GradeCacheBatchReader.class);
+
+    private final ReactiveRedisTemplate<String, byte[]> reactiveBinaryRedisTemplate;
+    private final GradeReleasePolicyCache policyCache;
+    private final GradeSummaryCache summaryCache;
+    private final GradeListCache listCache;
+
+    public GradeCacheBatchReader(ReactiveRedisTemplate<String, byte[]> reactiveBinaryRedisTemplate,
+            GradeReleasePolicyCache policyCache, GradeSummaryCache summaryCache, GradeListCache listCache) {
+        this.reactiveBinaryRedisTemplate = reactiveBinaryRedisTemplate;
+        this.policyCache = policyCache;
+        this.summaryCache = summaryCache;
+        this.listCache = listCache;
+    }
+
+    /**
+     * Cached view of one semester; empty parts were missing, unreadable or past the revalidate
+     * window. Parts flagged refresh-due should be refreshed by the caller once served.
+     */
+    public record CachedSemester(Optional<Boolean> released, Optional<CacheResult<GradeSummaryResponse>> summary,
+            Optional<CacheResult<List<GradeDetailResponse>>> grades) {
+
+        public boolean isComplete(boolean includeGrades) {
+            return released.isPresent() && summary.isPresent() && (!includeGrades || grades.isPresent());
+        }
+
+        public boolean stale() {
+            return summary.filter(found -> found.stale()).isPresent()
+                    || grades.filter(found -> found.stale()).isPresent();
+        }
+    }
+
+    /**
+     * Counts a cache hit for every payload found; misses are counted by the loaders.
+     * Never fails - a Redis error completes with every remote part empty.
+     *
+     * @param includeGrades also read the per-course grade list
+     * @param localPolicy release status known in-process; empty puts the policy key into the MGET
+     * @return entries keyed by semester, in request order
+     */
+    public CompletableFuture<Map<String, CachedSemester>> readAsync(Long studentId, Collection<String> semesters,
+            boolean includeGrades, Function<String, Optional<Boolean>> localPolicy) {
+        Map<String, Optional<Boolean>> localPolicies = new LinkedHashMap<>();
+        Map<String, Optional<GradeSummaryResponse>> localSummaries = new LinkedHashMap<>();
+        Map<String, Optional<List<GradeDetailResponse>>> localGrades = new LinkedHashMap<>();
+        Map<String, Optional<String>> summaryKeys = new LinkedHashMap<>();
+        Map<String, Optional<String>> listKeys = new LinkedHashMap<>();
+        List<String> remoteKeys = new ArrayList<>();
+
+        for (String semester : semesters) {
+            Optional<Boolean> released = localPolicy.apply(semester);
+            localPolicies.put(semester, released);
+            if (released.isEmpty()) {
+                remoteKeys.add(policyCache.buildKey(semester));
+            }
+            // Without a readable generation the entry is a miss and the loaders bypass the cache
+            Optional<String> summaryKey = summaryCache.currentKey(studentId, semester);
+            summaryKeys.put(semester, summaryKey);
+            Optional<GradeSummaryResponse> summary = summaryKey.flatMap(summaryCache::getLocal);
+            localSummaries.put(semester, summary);
+            if (summary.isEmpty()) {
+                summaryKey.ifPresent(remoteKeys::add);
+            }
+            if (includeGrades) {
+                Optional<String> listKey = listCache.currentKey(studentId, semester);
+                listKeys.put(semester, listKey);
+                Optional<List<GradeDetailResponse>> grades = listKey.flatMap(listCache::getLocal);
+                localGrades.put(semester, grades);
+                if (grades.isEmpty()) {
+                    listKey.ifPresent(remoteKeys::add);
+                }
+            }
+        }
+
+        if (remoteKeys.isEmpty()) {
+            return CompletableFuture.completedFuture(assemble(semesters, includeGrades, localPolicies,
+                    localSummaries, localGrades, summaryKeys, listKeys, Map.of()));
+        }
+        return reactiveBinaryRedisTemplate.opsForValue().multiGet(remoteKeys)
+                .onErrorResume(e -> {
+                    logger.warn("[Redis][Batch] MGET failure, falling back to DB: {}", e.getMessage());
+                    return Mono.just(List.of());
+                })
+                .toFuture()
+                .thenApply(values -> {
+                    Map<String, byte[]> remote = new LinkedHashMap<>();
+                    for (int i = 0; i < values.size() && i < remoteKeys.size(); i++) {
+                        if (values.get(i) != null) {
+                            remote.put(remoteKeys.get(i), values.get(i));
+                        }
+                    }
+
+                    logger.debug("[Redis][Batch] MGET: semesters={}, keys={}, found={}",
+                            semesters.size(), remoteKeys.size(), remote.size());
+                    return assemble(semesters, includeGrades, localPolicies, localSummaries, localGrades,
+                            summaryKeys, listKeys, remote);
+                });
+    }
+
+    private Map<String, CachedSemester> assemble(Collection<String> semesters, boolean includeGrades,
+            Map<String, Optional<Boolean>> localPolicies,
+            Map<String, Optional<GradeSummaryResponse>> localSummaries,
+            Map<String, Optional<List<GradeDetailResponse>>> localGrades,
+            Map<String, Optional<String>> summaryKeys, Map<String, Optional<String>> listKeys,
+            Map<String, byte[]> remote) {
+        Map<String, CachedSemester> result = new LinkedHashMap<>();
+        for (String semester : semesters) {
+            Optional<Boolean> released = localPolicies.get(semester).or(() -> {
+                String policyKey = policyCache.buildKey(semester);
+                byte[] policyValue = remote.get(policyKey);
+                return policyValue == null ? Optional.empty()
+                        : policyCache.parseOrEvictAsync(policyKey, new String(policyValue, StandardCharsets.UTF_8));
+            });
+
+            Optional<CacheResult<GradeSummaryResponse>> summary = localSummaries.get(semester)
+                    .map(CacheResult::fresh)
+                    .or(() -> summaryKeys.get(semester).flatMap(key -> decode(key, remote, summaryCache)));
+            Optional<CacheResult<List<GradeDetailResponse>>> grades = includeGrades
+                    ? localGrades.get(semester)
+                            .map(CacheResult::fresh)
+                            .or(() -> listKeys.get(semester).flatMap(key -> decode(key, remote, listCache)))
+                    : Optional.empty();
+            // Negative entries are counted by the caches themselves
+            summary.filter(found -> found.value() != null).ifPresent(found -> summaryCache.recordHit());
+            grades.filter(found -> !found.value().isEmpty()).ifPresent(found -> listCache.recordHit());
+            result.put(semester, new CachedSemester(released, summary, grades));
+        }
+        return result;
+    }
+
+    private static <V> Optional<CacheResult<V>> decode(String key, Map<String, byte[]> remote,
+            GradeEntryCache<V> cache) {
+        byte[] value = remote.get(key);
+        return value == null ? Optional.empty() : cache.decodeOrEvictAsync(key, value);
+    }
+}
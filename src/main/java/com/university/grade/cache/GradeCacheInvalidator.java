@@ -0,0 +1,93 @@
+package com.university.grade.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Removes the cache entries affected by committed writes. Keys are unlinked one by one inside a
+ * single pipeline (they span cluster slots, so no multi-key UNLINK), then dropped from every
+ * pod's L1. Whole semesters are retired by bumping their key generation instead.
+ */
+@Component
+public class GradeCacheInvalidator {
+    private static final Logger logger = LoggerFactory.getLogger(GradeCacheInvalidator.class);
+
+    public record StudentSemester(Long studentId, String semester) {
+    }
+
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final NearCacheManager nearCacheManager;
+    private final SemesterGenerations generations;
+    private final GradeReleasePolicyCache policyCache;
+    private final GradeSummaryCache summaryCache;
+    private final GradeListCache listCache;
+    private final Counter evictedCounter;
+
+    public GradeCacheInvalidator(RedisTemplate<String, byte[]> binaryRedisTemplate,
+            NearCacheManager nearCacheManager, SemesterGenerations generations, GradeReleasePolicyCache policyCache,
+            GradeSummaryCache summaryCache, GradeListCache listCache, MeterRegistry meterRegistry) {
+        this.binaryRedisTemplate = binaryRedisTemplate;
+        this.nearCacheManager = nearCacheManager;
+        this.generations = generations;
+        this.policyCache = policyCache;
+        this.summaryCache = summaryCache;
+        this.listCache = listCache;
+        this.evictedCounter = Counter.builder("grade.cache.evicted")
+                .tag("reason", "write")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Unlike the per-cache evict methods this throws on a Redis failure, so the caller can keep
+     * the change pending and retry.
+     *
+     * @param students summary and grade-list entries to drop
+     * @param policySemesters release-policy entries to drop; any entry also drops the released index
+     * @param retiredSemesters semesters whose summary/list entries are all retired
+     */
+    public void invalidate(Collection<StudentSemester> students, Collection<String> policySemesters,
+            Collection<String> retiredSemesters) {
+        for (String semester : retiredSemesters) {
+            generations.bump(semester);
+        }
+        List<String> studentKeys = new ArrayList<>(students.size() * 2);
+        for (StudentSemester student : students) {
+            studentKeys.add(summaryCache.buildKey(student.studentId(), student.semester()));
+            studentKeys.add(listCache.buildKey(student.studentId(), student.semester()));
+        }
+        List<String> keys = new ArrayList<>(studentKeys);
+        for (String semester : policySemesters) {
+            keys.add(policyCache.buildKey(semester));
+        }
+        if (!policySemesters.isEmpty()) {
+            keys.add(GradeReleasePolicyCache.RELEASED_SEMESTERS_KEY);
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        RedisSerializer<String> serializer = binaryRedisTemplate.getStringSerializer();
+        binaryRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                connection.keyCommands().unlink(serializer.serialize(key));
+            }
+            return null;
+        });
+        evictedCounter.increment(keys.size());
+        logger.debug("[Redis][GradeCache] Invalidated: students={}, policies={}",
+                students.size(), policySemesters.size());
+
+        // Drop L1 after Redis so other pods cannot re-populate from the stale entries
+        nearCacheManager.invalidateAll(studentKeys);
+    }
+}
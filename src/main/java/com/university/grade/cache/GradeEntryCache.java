@@ -0,0 +1,706 @@
+package com.university.grade.cache;
+
+import com.university.grade.cache.StaleRefresher.Freshness;
+import com.university.grade.cache.StaleRefresher.Loaded;
+import com.university.grade.cache.StaleRefresher.RecomputeCost;
+import com.university.grade.cache.codec.CacheCodec;
+import com.university.grade.cache.codec.CacheEnvelope;
+import com.university.grade.cache.codec.CacheFormat;
+import com.university.grade.config.ReplicaReadContext;
+import com.university.grade.dto.CacheResult;
+import com.university.grade.dto.WirePayload;
+import com.university.grade.util.GzipUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Per-student, per-semester grade cache: near cache in front of Redis, values in a
+ * {@link CacheEnvelope} under a semester-generation key, stale windows and early refresh from
+ * {@link StaleRefresher}, and negative entries for data the source does not have.
+ *
+ * Subclasses supply the codec, key prefix and how a negative entry reads: {@link #absentValue()}
+ * is what one decodes to, and {@link #isAbsent} tells which loaded values are stored as one.
+ */
+public abstract class GradeEntryCache<V> {
+    private static final Duration BASE_TTL = Duration.ofHours(1);
+    private static final long JITTER_MAX_SECONDS = 300;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    private final String redisLog;
+    private final String nearCacheLog;
+    private final String keyPrefix;
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final ReactiveRedisTemplate<String, byte[]> reactiveBinaryRedisTemplate;
+    private final CacheCodec<V> codec;
+    private final NearCacheManager nearCacheManager;
+    private final NearCache<V> nearCache;
+    private final NearCache<WirePayload> wireNearCache;
+    private final boolean passthrough;
+    private final SingleFlight singleFlight;
+    private final SemesterGenerations generations;
+    private final StaleRefresher staleRefresher;
+    private final RecomputeCost recomputeCost;
+    private final Duration negativeTtl;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter laggingReadSkipCounter;
+    private final Counter staleCounter;
+    private final Counter staleOnErrorCounter;
+    private final Counter earlyRefreshCounter;
+    private final Counter negativeHitCounter;
+    private final Counter negativeStoredCounter;
+
+    /**
+     * @param type    near cache name and the {@code type} tag of the cache meters
+     * @param logName cache name in log lines
+     */
+    GradeEntryCache(String type, String logName, String keyPrefix, CacheCodec<V> codec, CacheFormat cacheFormat,
+            RedisTemplate<String, byte[]> binaryRedisTemplate,
+            ReactiveRedisTemplate<String, byte[]> reactiveBinaryRedisTemplate, NearCacheManager nearCacheManager,
+            SingleFlight singleFlight, SemesterGenerations generations, StaleRefresher staleRefresher,
+            MeterRegistry meterRegistry, Duration negativeTtl) {
+        this.redisLog = "[Redis][" + logName + "]";
+        this.nearCacheLog = "[NearCache][" + logName + "]";
+        this.keyPrefix = keyPrefix;
+        this.binaryRedisTemplate = binaryRedisTemplate;
+        this.reactiveBinaryRedisTemplate = reactiveBinaryRedisTemplate;
+        this.codec = codec;
+        this.nearCacheManager = nearCacheManager;
+        this.nearCache = nearCacheManager.create(type, keyPrefix);
+        this.passthrough = cacheFormat == CacheFormat.GZIP_JSON;
+        this.wireNearCache = passthrough ? nearCacheManager.create(type + "-wire", keyPrefix) : null;
+        this.singleFlight = singleFlight;
+        this.generations = generations;
+        this.staleRefresher = staleRefresher;
+        this.recomputeCost = staleRefresher.newRecomputeCost();
+        this.negativeTtl = negativeTtl;
+        this.hitCounter = Counter.builder("grade.cache.hit")
+                .tag("type", type)
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("grade.cache.miss")
+                .tag("type", type)
+                .register(meterRegistry);
+        this.laggingReadSkipCounter = Counter.builder("grade.cache.put.skipped")
+                .tag("type", type)
+                .tag("reason", "replica-lag")
+                .register(meterRegistry);
+        this.staleCounter = Counter.builder("grade.cache.stale")
+                .tag("type", type)
+                .tag("reason", "revalidate")
+                .register(meterRegistry);
+        this.staleOnErrorCounter = Counter.builder("grade.cache.stale")
+                .tag("type", type)
+                .tag("reason", "error")
+                .register(meterRegistry);
+        this.earlyRefreshCounter = Counter.builder("grade.cache.refresh.early")
+                .tag("type", type)
+                .register(meterRegistry);
+        this.negativeHitCounter = Counter.builder("grade.cache.negative.hit")
+                .tag("type", type)
+                .register(meterRegistry);
+        this.negativeStoredCounter = Counter.builder("grade.cache.negative.stored")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    /**
+     * What a negative entry reads as.
+     */
+    protected abstract V absentValue();
+
+    /**
+     * Whether a loaded value is cached as a negative entry rather than encoded.
+     */
+    protected abstract boolean isAbsent(V value);
+
+    /**
+     * What a negative entry reads as on the passthrough paths; null unless overridden.
+     */
+    protected WirePayload absentWire() {
+        return null;
+    }
+
+    /**
+     * Negative entries never expire logically.
+     */
+    private record Stored<V>(V value, long softExpiresAtMillis) {
+    }
+
+    private Duration getEffectiveTtl() {
+        long jitterSeconds = ThreadLocalRandom.current().nextLong(0, JITTER_MAX_SECONDS + 1);
+        return BASE_TTL.plusSeconds(jitterSeconds);
+    }
+
+    /**
+     * @return a fresh entry, or a stale one still inside the revalidate window; a negative entry
+     *         is found with {@link #absentValue()}, or is empty if that is null
+     */
+    public Optional<V> get(Long studentId, String semester) {
+        return currentKey(studentId, semester).flatMap(key -> lookup(key, semester)).map(CacheResult::value);
+    }
+
+    private Optional<CacheResult<V>> lookup(String key, String semester) {
+        Optional<V> local = nearCache.get(key);
+        if (local.isPresent()) {
+            logger.debug("{} Cache HIT: semester={}", nearCacheLog, semester);
+            return local.map(CacheResult::fresh);
+        }
+        return read(key, semester)
+                .filter(stored -> staleRefresher.classify(stored.softExpiresAtMillis()) != Freshness.EXPIRED)
+                .map(stored -> CacheResult.fresh(stored.value()));
+    }
+
+    private Optional<Stored<V>> read(String key, String semester) {
+        try {
+            byte[] value = binaryRedisTemplate.opsForValue().get(key);
+            if (value != null) {
+                Optional<Stored<V>> stored = decode(key, value, semester);
+                if (stored.isEmpty()) {
+                    binaryRedisTemplate.delete(key);
+                }
+                return stored;
+            }
+            return Optional.empty();
+        } catch (Exception e) {
+            logger.warn("{} Read failure, falling back to DB: {}", redisLog, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Non-blocking lookup for the async inquiry path: L1, else one async GET completed on the
+     * Lettuce event loop. Counts a hit when found; misses are counted by the {@link #getOrLoad}
+     * fallback. A stale entry, or a fresh one picked for early refresh, comes back flagged and the
+     * caller schedules {@link #refresh}; an expired one reads as a miss. A negative entry completes
+     * with {@link #absentValue()}. Never fails - Redis errors complete with empty.
+     */
+    public CompletableFuture<Optional<CacheResult<V>>> getAsync(Long studentId, String semester) {
+        Optional<String> currentKey = currentKey(studentId, semester);
+        if (currentKey.isEmpty()) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        String key = currentKey.get();
+        Optional<V> local = nearCache.get(key);
+        if (local.isPresent()) {
+            hitCounter.increment();
+            return CompletableFuture.completedFuture(local.map(CacheResult::fresh));
+        }
+        return reactiveBinaryRedisTemplate.opsForValue().get(key)
+                .map(value -> decodeOrEvictAsync(key, value))
+                .defaultIfEmpty(Optional.empty())
+                .onErrorResume(e -> {
+                    logger.warn("{} Async read failure, falling back to DB: {}", redisLog, e.getMessage());
+                    return Mono.just(Optional.empty());
+                })
+                .toFuture()
+                .thenApply(response -> {
+                    if (response.isPresent() && !isAbsent(response.get().value())) {
+                        hitCounter.increment();
+                    }
+                    return response;
+                });
+    }
+
+    /**
+     * Decodes a raw value fetched by a batched read; corrupt entries are deleted without blocking.
+     * Freshness is reported as in {@link #getAsync}.
+     */
+    Optional<CacheResult<V>> decodeOrEvictAsync(String key, byte[] value) {
+        Optional<Stored<V>> stored = decode(key, value, key.substring(key.lastIndexOf(':') + 1));
+        if (stored.isEmpty()) {
+            reactiveBinaryRedisTemplate.delete(key).subscribe();
+            return Optional.empty();
+        }
+        return switch (staleRefresher.classify(stored.get().softExpiresAtMillis())) {
+            case FRESH -> {
+                if (refreshEarly(stored.get().softExpiresAtMillis())) {
+                    yield Optional.of(CacheResult.early(stored.get().value()));
+                }
+                yield Optional.of(CacheResult.fresh(stored.get().value()));
+            }
+            case STALE -> {
+                staleCounter.increment();
+                yield Optional.of(CacheResult.stale(stored.get().value()));
+            }
+            case EXPIRED -> Optional.empty();
+        };
+    }
+
+    /**
+     * Whether stored entries are the response wire payload ({@link CacheFormat#GZIP_JSON}).
+     */
+    public boolean isPassthrough() {
+        return passthrough;
+    }
+
+    /**
+     * Passthrough form of {@link #getAsync}: the stored gzip-compressed JSON, never decoded.
+     * Freshness and hit counting are the same; a negative entry completes with
+     * {@link #absentWire()}. Entries in another format (written before a codec switch) read as a
+     * miss; always empty unless {@link #isPassthrough()}.
+     */
+    public CompletableFuture<Optional<CacheResult<WirePayload>>> getWireAsync(Long studentId, String semester) {
+        Optional<String> currentKey = passthrough ? currentKey(studentId, semester) : Optional.empty();
+        if (currentKey.isEmpty()) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        String key = currentKey.get();
+        Optional<WirePayload> local = wireNearCache.get(key);
+        if (local.isPresent()) {
+            hitCounter.increment();
+            return CompletableFuture.completedFuture(local.map(CacheResult::fresh));
+        }
+        return reactiveBinaryRedisTemplate.opsForValue().get(key)
+                .map(value -> toWire(key, value))
+                .defaultIfEmpty(Optional.empty())
+                .onErrorResume(e -> {
+                    logger.warn("{} Async read failure, falling back to DB: {}", redisLog, e.getMessage());
+                    return Mono.just(Optional.empty());
+                })
+                .toFuture()
+                .thenApply(response -> {
+                    response.filter(found -> found.value() != absentWire()).ifPresent(found -> hitCounter.increment());
+                    return response;
+                });
+    }
+
+    private Optional<CacheResult<WirePayload>> toWire(String key, byte[] value) {
+        if (CacheEnvelope.isAbsent(value)) {
+            negativeHitCounter.increment();
+            return Optional.of(CacheResult.fresh(absentWire()));
+        }
+        byte[] body = CacheEnvelope.payload(value);
+        if (!GzipUtil.isGzip(body)) {
+            return Optional.empty();
+        }
+        WirePayload payload = new WirePayload(body, CacheEnvelope.contentVersion(value));
+        long softExpiresAtMillis = CacheEnvelope.softExpiresAt(value);
+        return switch (staleRefresher.classify(softExpiresAtMillis)) {
+            case FRESH -> {
+                wireNearCache.put(key, payload);
+                if (refreshEarly(softExpiresAtMillis)) {
+                    yield Optional.of(CacheResult.early(payload));
+                }
+                yield Optional.of(CacheResult.fresh(payload));
+            }
+            case STALE -> {
+                staleCounter.increment();
+                yield Optional.of(CacheResult.stale(payload));
+            }
+            case EXPIRED -> Optional.empty();
+        };
+    }
+
+    /**
+     * Content version of the entry, for conditional requests: from the wire L1, else a GETRANGE of
+     * the envelope header, so the payload is neither transferred nor decoded. Freshness and hit
+     * counting are as in {@link #getWireAsync}; missing, expired and unversioned entries are
+     * empty, and so are negative entries without an {@link #absentWire()}. Never fails.
+     */
+    public CompletableFuture<Optional<CacheResult<Long>>> getWireVersionAsync(Long studentId, String semester) {
+        Optional<String> currentKey = passthrough ? currentKey(studentId, semester) : Optional.empty();
+        if (currentKey.isEmpty()) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        String key = currentKey.get();
+        Optional<WirePayload> local = wireNearCache.get(key)
+                .filter(found -> found.version() != CacheEnvelope.NO_VERSION);
+        if (local.isPresent()) {
+            hitCounter.increment();
+            return CompletableFuture.completedFuture(local.map(found -> CacheResult.fresh(found.version())));
+        }
+        ByteBuffer rawKey = reactiveBinaryRedisTemplate.getSerializationContext().getKeySerializationPair().write(key);
+        return reactiveBinaryRedisTemplate.execute(connection -> connection.stringCommands()
+                        .getRange(rawKey, 0, CacheEnvelope.HEADER_LENGTH - 1))
+                .next()
+                .map(this::toVersion)
+                .defaultIfEmpty(Optional.empty())
+                .onErrorResume(e -> {
+                    logger.warn("{} Async version read failure: {}", redisLog, e.getMessage());
+                    return Mono.just(Optional.empty());
+                })
+                .toFuture();
+    }
+
+    private Optional<CacheResult<Long>> toVersion(ByteBuffer buffer) {
+        byte[] header = new byte[buffer.remaining()];
+        buffer.get(header);
+        if (CacheEnvelope.isAbsent(header)) {
+            if (absentWire() == null) {
+                return Optional.empty();
+            }
+            negativeHitCounter.increment();
+            return Optional.of(CacheResult.fresh(absentWire().version()));
+        }
+        long version = CacheEnvelope.contentVersion(header);
+        if (version == CacheEnvelope.NO_VERSION) {
+            return Optional.empty();
+        }
+        long softExpiresAtMillis = CacheEnvelope.softExpiresAt(header);
+        return switch (staleRefresher.classify(softExpiresAtMillis)) {
+            case FRESH -> {
+                hitCounter.increment();
+                yield Optional.of(refreshEarly(softExpiresAtMillis)
+                        ? CacheResult.early(version) : CacheResult.fresh(version));
+            }
+            case STALE -> {
+                hitCounter.increment();
+                staleCounter.increment();
+                yield Optional.of(CacheResult.stale(version));
+            }
+            case EXPIRED -> Optional.empty();
+        };
+    }
+
+    /**
+     * Wire payload for a response materialized on the miss path; same bytes and version as
+     * {@link #put} stores.
+     */
+    public WirePayload encodeWire(V value) {
+        try {
+            byte[] body = codec.encode(value);
+            return new WirePayload(body, CacheEnvelope.versionOf(body));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    Optional<V> getLocal(String key) {
+        return nearCache.get(key);
+    }
+
+    void recordHit() {
+        hitCounter.increment();
+    }
+
+    private Optional<Stored<V>> decode(String key, byte[] value, String semester) {
+        if (CacheEnvelope.isAbsent(value)) {
+            negativeHitCounter.increment();
+            logger.debug("{} Negative HIT: semester={}", redisLog, semester);
+            return Optional.of(new Stored<>(absentValue(), CacheEnvelope.NO_EXPIRY));
+        }
+        try {
+            V response = codec.decode(CacheEnvelope.payload(value));
+            long softExpiresAtMillis = CacheEnvelope.softExpiresAt(value);
+            // L1 has no notion of logical expiry, so only fresh entries go there
+            if (staleRefresher.classify(softExpiresAtMillis) == Freshness.FRESH) {
+                nearCache.put(key, response);
+            }
+            logger.debug("{} Cache HIT: semester={}", redisLog, semester);
+            return Optional.of(new Stored<>(response, softExpiresAtMillis));
+        } catch (IOException e) {
+            logger.warn("{} Deserialization failure: {}", redisLog, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public CacheResult<V> getOrLoad(Long studentId, String semester, Supplier<V> loader) {
+        Optional<String> currentKey = currentKey(studentId, semester);
+        if (currentKey.isEmpty()) {
+            missCounter.increment();
+            return CacheResult.fresh(staleRefresher.loadInline(() -> timedLoad(loader)).value());
+        }
+        // Resolved before loading, so a load that overlaps a generation bump is stored under the
+        // retired generation rather than the new one
+        String key = currentKey.get();
+        Optional<V> local = nearCache.get(key);
+        if (local.isPresent()) {
+            hitCounter.increment();
+            return CacheResult.fresh(local.get());
+        }
+        Optional<Stored<V>> stored = read(key, semester);
+        if (stored.isPresent() && isAbsent(stored.get().value())) {
+            return CacheResult.fresh(stored.get().value());
+        }
+        if (stored.isPresent()) {
+            switch (staleRefresher.classify(stored.get().softExpiresAtMillis())) {
+                case FRESH -> {
+                    hitCounter.increment();
+                    if (refreshEarly(stored.get().softExpiresAtMillis())) {
+                        refresh(studentId, semester, loader);
+                    }
+                    return CacheResult.fresh(stored.get().value());
+                }
+                case STALE -> {
+                    hitCounter.increment();
+                    staleCounter.increment();
+                    refresh(studentId, semester, loader);
+                    return CacheResult.stale(stored.get().value());
+                }
+                case EXPIRED -> {
+                    // Reload inline below; the expired entry is only a fallback
+                }
+            }
+        }
+
+        // Load from source - concurrent misses for the same key share one load
+        missCounter.increment();
+        try {
+            return singleFlight.execute(key, () -> lookup(key, semester),
+                    () -> {
+                        // Stored after the load's transaction, so the replica is released first
+                        Loaded<V> loaded = staleRefresher.loadInline(() -> timedLoad(loader));
+                        ReplicaReadContext.replay(loaded.laggingRead(), () -> store(key, semester, loaded.value()));
+                        return CacheResult.fresh(loaded.value());
+                    });
+        } catch (RuntimeException e) {
+            // Stale-if-error
+            if (stored.isEmpty()) {
+                throw e;
+            }
+            staleOnErrorCounter.increment();
+            logger.warn("{} Load failed, serving expired entry: semester={}, error={}",
+                    redisLog, semester, e.getMessage());
+            return CacheResult.stale(stored.get().value());
+        }
+    }
+
+    private boolean refreshEarly(long softExpiresAtMillis) {
+        if (!staleRefresher.shouldRefreshEarly(softExpiresAtMillis, recomputeCost)) {
+            return false;
+        }
+        earlyRefreshCounter.increment();
+        return true;
+    }
+
+    // Feeds the early-refresh margin; failed loads count too, they hold the replica just as long
+    private V timedLoad(Supplier<V> loader) {
+        long start = System.nanoTime();
+        try {
+            return loader.get();
+        } finally {
+            recomputeCost.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Reloads the entry in the background (see {@link StaleRefresher}), for stale or early-refresh
+     * entries served by the non-blocking paths.
+     */
+    public void refresh(Long studentId, String semester, Supplier<V> loader) {
+        currentKey(studentId, semester).ifPresent(key -> staleRefresher.refresh(key,
+                () -> timedLoad(loader), response -> store(key, semester, response)));
+    }
+
+    private void store(String key, String semester, V response) {
+        if (!isAbsent(response)) {
+            put(key, semester, response);
+        } else {
+            putAbsent(key, semester);
+        }
+    }
+
+    public void put(Long studentId, String semester, V value) {
+        currentKey(studentId, semester).ifPresent(key -> put(key, semester, value));
+    }
+
+    private void put(String key, String semester, V value) {
+        if (skipLaggingRead(semester)) {
+            return;
+        }
+        try {
+            byte[] encoded = codec.encode(value);
+            Duration effectiveTtl = getEffectiveTtl();
+            byte[] stored = wrap(encoded, effectiveTtl);
+            binaryRedisTemplate.opsForValue().set(key, stored, effectiveTtl.plus(staleRefresher.staleRetention()));
+            nearCache.put(key, value);
+            if (passthrough) {
+                wireNearCache.put(key, new WirePayload(encoded, CacheEnvelope.contentVersion(stored)));
+            }
+            logger.debug("{} Cached: semester={}, ttl={}s", redisLog, semester, effectiveTtl.getSeconds());
+        } catch (IOException e) {
+            logger.error("{} Serialization failure: {}", redisLog, e.getMessage());
+        } catch (Exception e) {
+            logger.warn("{} Write failure (non-critical): {}", redisLog, e.getMessage());
+        }
+    }
+
+    /**
+     * Caches that the source has nothing for the student and semester, for the short negative
+     * TTL and without stale windows. Grade finalization evicts it like any other entry.
+     */
+    private void putAbsent(String key, String semester) {
+        if (!negativeTtl.isPositive() || skipLaggingRead(semester)) {
+            return;
+        }
+        try {
+            binaryRedisTemplate.opsForValue().set(key, CacheEnvelope.absent(), negativeTtl);
+            negativeStoredCounter.increment();
+            logger.debug("{} Cached absence: semester={}, ttl={}s", redisLog, semester, negativeTtl.getSeconds());
+        } catch (Exception e) {
+            logger.warn("{} Write failure (non-critical): {}", redisLog, e.getMessage());
+        }
+    }
+
+    /**
+     * Bulk write for cache warmup: one pipelined round trip of SETs for the whole batch.
+     * The near cache is deliberately not populated here.
+     */
+    public void putAll(String semester, Map<Long, V> values) {
+        OptionalLong generation = values.isEmpty() ? OptionalLong.empty() : generations.find(semester);
+        if (generation.isEmpty() || skipLaggingRead(semester)) {
+            return;
+        }
+        Map<String, byte[]> encoded = new LinkedHashMap<>();
+        for (Map.Entry<Long, V> entry : values.entrySet()) {
+            try {
+                encoded.put(buildKey(generation.getAsLong(), entry.getKey(), semester), codec.encode(entry.getValue()));
+            } catch (IOException e) {
+                logger.error("{} Serialization failure: {}", redisLog, e.getMessage());
+            }
+        }
+        if (setPipelined(encoded, List.of())) {
+            logger.debug("{} Bulk cached: semester={}, count={}", redisLog, semester, encoded.size());
+        }
+    }
+
+    /**
+     * Bulk write of several semesters for one student (transcript loads), pipelined like
+     * {@link #putAll}. Values that {@link #isAbsent} and the {@code absentSemesters} are cached as
+     * absent; semesters whose generation cannot be read are left uncached.
+     */
+    void storeSemesters(Long studentId, Map<String, V> bySemester, Collection<String> absentSemesters) {
+        if (bySemester.isEmpty() && absentSemesters.isEmpty()) {
+            return;
+        }
+        List<String> semesters = new ArrayList<>(bySemester.keySet());
+        semesters.addAll(absentSemesters);
+        if (skipLaggingRead(String.join(",", semesters))) {
+            return;
+        }
+        Map<String, byte[]> values = new LinkedHashMap<>();
+        List<String> absentKeys = new ArrayList<>();
+        for (String semester : semesters) {
+            Optional<String> key = currentKey(studentId, semester);
+            V value = bySemester.get(semester);
+            if (key.isEmpty()) {
+                continue;
+            }
+            if (value == null || isAbsent(value)) {
+                if (negativeTtl.isPositive()) {
+                    absentKeys.add(key.get());
+                }
+                continue;
+            }
+            try {
+                values.put(key.get(), codec.encode(value));
+            } catch (IOException e) {
+                logger.error("{} Serialization failure: {}", redisLog, e.getMessage());
+            }
+        }
+        if (setPipelined(values, absentKeys)) {
+            logger.debug("{} Bulk cached: semesters={}, absent={}", redisLog, values.size(), absentKeys.size());
+        }
+    }
+
+    private boolean setPipelined(Map<String, byte[]> values, List<String> absentKeys) {
+        try {
+            RedisSerializer<String> serializer = binaryRedisTemplate.getStringSerializer();
+            binaryRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Map.Entry<String, byte[]> entry : values.entrySet()) {
+                    Duration effectiveTtl = getEffectiveTtl();
+                    connection.stringCommands().set(serializer.serialize(entry.getKey()),
+                            wrap(entry.getValue(), effectiveTtl),
+                            Expiration.from(effectiveTtl.plus(staleRefresher.staleRetention())), SetOption.upsert());
+                }
+                for (String key : absentKeys) {
+                    connection.stringCommands().set(serializer.serialize(key), CacheEnvelope.absent(),
+                            Expiration.from(negativeTtl), SetOption.upsert());
+                }
+                return null;
+            });
+            negativeStoredCounter.increment(absentKeys.size());
+            return true;
+        } catch (Exception e) {
+            logger.warn("{} Bulk write failure (non-critical): {}", redisLog, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Logical expiry goes inside the value; Redis keeps it for the stale windows beyond that.
+     */
+    private byte[] wrap(byte[] payload, Duration ttl) {
+        return CacheEnvelope.wrap(payload, System.currentTimeMillis() + ttl.toMillis());
+    }
+
+    public void evict(Long studentId, String semester) {
+        Optional<String> currentKey = currentKey(studentId, semester);
+        if (currentKey.isEmpty()) {
+            // Entries of an unknown generation cannot be reached from this pod either
+            return;
+        }
+        String key = currentKey.get();
+        try {
+            binaryRedisTemplate.delete(key);
+            logger.debug("{} Evicted: semester={}", redisLog, semester);
+        } catch (Exception e) {
+            logger.warn("{} Eviction failure (non-critical): {}", redisLog, e.getMessage());
+        }
+        // Drop L1 after Redis so other pods cannot re-populate from the stale entry
+        nearCacheManager.invalidate(key);
+    }
+
+    /**
+     * Data read from a replica that is behind the master must not be pinned for a full TTL.
+     */
+    private boolean skipLaggingRead(String semester) {
+        if (!ReplicaReadContext.isLaggingRead()) {
+            return false;
+        }
+        laggingReadSkipCounter.increment();
+        logger.debug("{} Skipping cache write, read came from a lagging replica: semester={}", redisLog, semester);
+        return true;
+    }
+
+    /**
+     * Throws if the semester's generation cannot be read (see {@link SemesterGenerations#current}).
+     */
+    String buildKey(Long studentId, String semester) {
+        return buildKey(generations.current(semester), studentId, semester);
+    }
+
+    /**
+     * @return the key, or empty if the semester's generation cannot be read and the cache must be
+     *         bypassed
+     */
+    Optional<String> currentKey(Long studentId, String semester) {
+        OptionalLong generation = generations.find(semester);
+        return generation.isPresent()
+                ? Optional.of(buildKey(generation.getAsLong(), studentId, semester)) : Optional.empty();
+    }
+
+    /**
+     * Generation 0 keeps the unversioned key so existing entries stay valid until the first bump.
+     */
+    private String buildKey(long generation, Long studentId, String semester) {
+        if (generation == 0) {
+            return keyPrefix + studentId + ":" + semester;
+        }
+        return keyPrefix + "g" + generation + ":" + studentId + ":" + semester;
+    }
+}
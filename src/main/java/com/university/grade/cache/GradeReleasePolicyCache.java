@@ -2,25 +2,33 @@ package com.university.grade.cache;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ThreadLocalRandom;
-import java.util.function.Supplier;
 
 @Component
 public class GradeReleasePolicyCache {
     private static final Logger logger = LoggerFactory.getLogger(GradeReleasePolicyCache.class);
     private static final String KEY_PREFIX = "grade:release:";
+    static final String RELEASED_SEMESTERS_KEY = "grade:release-index:released";
     private static final Duration BASE_TTL = Duration.ofHours(1);
     private static final long JITTER_MAX_SECONDS = 300;
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final ReactiveRedisTemplate<String, String> reactiveStringRedisTemplate;
 
-    public GradeReleasePolicyCache(RedisTemplate<String, String> redisTemplate) {
+    public GradeReleasePolicyCache(RedisTemplate<String, String> redisTemplate,
+            ReactiveRedisTemplate<String, String> reactiveStringRedisTemplate) {
         this.redisTemplate = redisTemplate;
+        this.reactiveStringRedisTemplate = reactiveStringRedisTemplate;
     }
 
     private Duration getEffectiveTtl() {
@@ -28,6 +36,24 @@ public class GradeReleasePolicyCache {
         return BASE_TTL.plusSeconds(jitterSeconds);
     }
 
+    /**
+     * Jittered TTL, cut so the entry expires no later than {@code expiresAt}.
+     * A value that is about to flip (scheduled release) must not outlive the flip.
+     *
+     * @return null if {@code expiresAt} has already passed
+     */
+    private Duration getEffectiveTtl(Instant expiresAt) {
+        Duration ttl = getEffectiveTtl();
+        if (expiresAt == null) {
+            return ttl;
+        }
+        Duration untilExpiry = Duration.between(Instant.now(), expiresAt);
+        if (untilExpiry.toMillis() <= 0) {
+            return null;
+        }
+        return untilExpiry.compareTo(ttl) < 0 ? untilExpiry : ttl;
+    }
+
     public Optional<Boolean> get(String semester) {
         String key = buildKey(semester);
         try {
@@ -49,27 +75,50 @@ public class GradeReleasePolicyCache {
         }
     }
 
-    public Boolean getOrLoad(String semester, Supplier<Boolean> loader) {
-        Optional<Boolean> cached = get(semester);
-        if (cached.isPresent()) {
-            return cached.get();
-        }
+    /**
+     * Non-blocking variant of {@link #get}; Redis errors complete with empty.
+     */
+    public CompletableFuture<Optional<Boolean>> getAsync(String semester) {
+        String key = buildKey(semester);
+        return reactiveStringRedisTemplate.opsForValue().get(key)
+                .map(value -> parseOrEvictAsync(key, value))
+                .defaultIfEmpty(Optional.empty())
+                .onErrorResume(e -> {
+                    logger.warn("[Redis][GradeReleasePolicy] Async read failure, falling back to DB: {}",
+                            e.getMessage());
+                    return Mono.just(Optional.empty());
+                })
+                .toFuture();
+    }
 
-        // Load from source
-        Boolean result = loader.get();
-        if (result != null) {
-            put(semester, result);
+    /**
+     * Parses a raw value fetched by a batched read; invalid entries are deleted without blocking.
+     */
+    Optional<Boolean> parseOrEvictAsync(String key, String value) {
+        if ("true".equals(value) || "false".equals(value)) {
+            return Optional.of("true".equals(value));
         }
-        return result;
+        reactiveStringRedisTemplate.delete(key).subscribe();
+        return Optional.empty();
     }
 
     public void put(String semester, Boolean isReleased) {
+        put(semester, isReleased, null);
+    }
+
+    /**
+     * @param expiresAt release_at of a not-yet-released semester; the entry expires exactly then
+     */
+    public void put(String semester, Boolean isReleased, Instant expiresAt) {
         String key = buildKey(semester);
+        Duration effectiveTtl = getEffectiveTtl(expiresAt);
+        if (effectiveTtl == null) {
+            return;
+        }
         try {
-            Duration effectiveTtl = getEffectiveTtl();
             redisTemplate.opsForValue().set(key, String.valueOf(isReleased), effectiveTtl);
-            logger.debug("[Redis][GradeReleasePolicy] Cached: semester={}, isReleased={}, ttl={}s",
-                    key.substring(key.lastIndexOf(':') + 1), isReleased, effectiveTtl.getSeconds());
+            logger.debug("[Redis][GradeReleasePolicy] Cached: semester={}, isReleased={}, ttl={}ms",
+                    key.substring(key.lastIndexOf(':') + 1), isReleased, effectiveTtl.toMillis());
         } catch (Exception e) {
             logger.warn("[Redis][GradeReleasePolicy] Write failure (non-critical): {}", e.getMessage());
         }
@@ -85,7 +134,49 @@ public class GradeReleasePolicyCache {
         }
     }
 
-    private String buildKey(String semester) {
+    /**
+     * Released semesters, newest first, stored as one comma-separated value so a transcript needs a
+     * single GET instead of one policy lookup per semester. Redis errors complete with empty.
+     */
+    public CompletableFuture<Optional<List<String>>> getReleasedSemestersAsync() {
+        return reactiveStringRedisTemplate.opsForValue().get(RELEASED_SEMESTERS_KEY)
+                .map(value -> Optional.of(value.isEmpty() ? List.<String>of() : List.of(value.split(","))))
+                .defaultIfEmpty(Optional.empty())
+                .onErrorResume(e -> {
+                    logger.warn("[Redis][GradeReleasePolicy] Async read failure, falling back to DB: {}",
+                            e.getMessage());
+                    return Mono.just(Optional.empty());
+                })
+                .toFuture();
+    }
+
+    /**
+     * @param expiresAt next scheduled release_at, after which the list is incomplete
+     */
+    public void putReleasedSemesters(List<String> semesters, Instant expiresAt) {
+        Duration effectiveTtl = getEffectiveTtl(expiresAt);
+        if (effectiveTtl == null) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(RELEASED_SEMESTERS_KEY, String.join(",", semesters), effectiveTtl);
+            logger.debug("[Redis][GradeReleasePolicy] Cached released semesters: count={}, ttl={}ms",
+                    semesters.size(), effectiveTtl.toMillis());
+        } catch (Exception e) {
+            logger.warn("[Redis][GradeReleasePolicy] Write failure (non-critical): {}", e.getMessage());
+        }
+    }
+
+    public void evictReleasedSemesters() {
+        try {
+            redisTemplate.delete(RELEASED_SEMESTERS_KEY);
+            logger.debug("[Redis][GradeReleasePolicy] Evicted released semesters");
+        } catch (Exception e) {
+            logger.warn("[Redis][GradeReleasePolicy] Eviction failure (non-critical): {}", e.getMessage());
+        }
+    }
+
+    String buildKey(String semester) {
         return KEY_PREFIX + semester;
     }
 }
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.university.grade.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * In-process L1 tier sitting in front of Redis.
+ * Size-bounded with a short write TTL; cross-pod coherence is handled by {@link NearCacheManager}.
+ */
+public class NearCache<V> {
+    private final String type;
+    private final String keyPrefix;
+    private final boolean enabled;
+    private final Cache<String, V> store;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    NearCache(String type, String keyPrefix, boolean enabled, long maxSize, Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.type = type;
+        this.keyPrefix = keyPrefix;
+        this.enabled = enabled;
+        this.store = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.hitCounter = Counter.builder("grade.cache.l1.hit")
+                .tag("type", type)
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("grade.cache.l1.miss")
+                .tag("type", type)
+                .register(meterRegistry);
+        Gauge.builder("grade.cache.l1.size", store, Cache::estimatedSize)
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    public Optional<V> get(String key) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        V value = store.getIfPresent(key);
+        if (value != null) {
+            hitCounter.increment();
+            return Optional.of(value);
+        }
+        missCounter.increment();
+        return Optional.empty();
+    }
+
+    public void put(String key, V value) {
+        if (enabled && value != null) {
+            store.put(key, value);
+        }
+    }
+
+    public void invalidate(String key) {
+        store.invalidate(key);
+    }
+
+    public void invalidateAll() {
+        store.invalidateAll();
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    boolean owns(String key) {
+        return key.startsWith(keyPrefix);
+    }
+}
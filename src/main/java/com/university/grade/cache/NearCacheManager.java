@@ -0,0 +1,126 @@
+package com.university.grade.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Creates the per-type near caches and keeps them coherent across pods.
+ * Evictions are broadcast on a Redis pub/sub channel as "{originId}|{redisKey}".
+ */
+@Component
+public class NearCacheManager implements MessageListener {
+    private static final Logger logger = LoggerFactory.getLogger(NearCacheManager.class);
+    public static final String INVALIDATION_CHANNEL = "grade:cache:invalidate";
+    private static final char SEPARATOR = '|';
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final long maxSize;
+    private final Duration ttl;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final List<NearCache<?>> nearCaches = new CopyOnWriteArrayList<>();
+    private final Counter invalidationReceivedCounter;
+
+    public NearCacheManager(
+            RedisTemplate<String, String> redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.near.enabled:true}") boolean enabled,
+            @Value("${app.cache.near.max-size:10000}") long maxSize,
+            @Value("${app.cache.near.ttl:5s}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+        this.invalidationReceivedCounter = Counter.builder("grade.cache.l1.invalidation")
+                .tag("source", "remote")
+                .register(meterRegistry);
+
+        logger.info("NearCacheManager initialized with enabled={}, maxSize={}, ttl={}", enabled, maxSize, ttl);
+    }
+
+    public <V> NearCache<V> create(String type, String keyPrefix) {
+        NearCache<V> nearCache = new NearCache<>(type, keyPrefix, enabled, maxSize, ttl, meterRegistry);
+        nearCaches.add(nearCache);
+        return nearCache;
+    }
+
+    /**
+     * Invalidates the key locally and tells every other pod to drop it from their L1.
+     */
+    public void invalidate(String key) {
+        invalidateLocal(key);
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, instanceId + SEPARATOR + key);
+        } catch (Exception e) {
+            logger.warn("[Redis][NearCache] Invalidation publish failure (non-critical): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Same as {@link #invalidate} for many keys; the messages go out in one pipelined round trip.
+     */
+    public void invalidateAll(Collection<String> keys) {
+        keys.forEach(this::invalidateLocal);
+        if (!enabled || keys.isEmpty()) {
+            return;
+        }
+        try {
+            RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+            byte[] channel = serializer.serialize(INVALIDATION_CHANNEL);
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String key : keys) {
+                    connection.publish(channel, serializer.serialize(instanceId + SEPARATOR + key));
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            logger.warn("[Redis][NearCache] Invalidation publish failure (non-critical): {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separatorIndex = body.indexOf(SEPARATOR);
+        if (separatorIndex < 0) {
+            logger.warn("[Redis][NearCache] Malformed invalidation message ignored");
+            return;
+        }
+        if (instanceId.equals(body.substring(0, separatorIndex))) {
+            return;
+        }
+        invalidationReceivedCounter.increment();
+        invalidateLocal(body.substring(separatorIndex + 1));
+    }
+
+    private void invalidateLocal(String key) {
+        for (NearCache<?> nearCache : nearCaches) {
+            if (nearCache.owns(key)) {
+                nearCache.invalidate(key);
+                logger.debug("[NearCache] Invalidated: type={}", nearCache.getType());
+            }
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.university.grade.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Per-semester generation number that is part of every summary/list key, so bumping it retires a
+ * whole semester of entries at once; the old keys are never read again and expire with their TTL.
+ * The counter lives in Redis ("grade:cache:gen:{semester}", absent = 0) and is held in-process:
+ * bumps are broadcast as "{originId}|{semester}|{generation}" and every entry is re-read in the
+ * background after refresh-interval, so a missed message only delays the switch.
+ */
+@Component
+public class SemesterGenerations implements MessageListener {
+    private static final Logger logger = LoggerFactory.getLogger(SemesterGenerations.class);
+    public static final String BUMP_CHANNEL = "grade:cache:generation";
+    private static final String KEY_PREFIX = "grade:cache:gen:";
+    private static final char SEPARATOR = '|';
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final LoadingCache<String, Long> generations;
+    private final Counter bumpCounter;
+    private final Counter unavailableCounter;
+
+    public SemesterGenerations(
+            RedisTemplate<String, String> redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.generation.refresh-interval:5s}") Duration refreshInterval) {
+        this.redisTemplate = redisTemplate;
+        this.generations = Caffeine.newBuilder()
+                .maximumSize(1_000)
+                .refreshAfterWrite(refreshInterval)
+                .build(this::load);
+        this.bumpCounter = Counter.builder("grade.cache.generation.bump")
+                .register(meterRegistry);
+        this.unavailableCounter = Counter.builder("grade.cache.generation.unavailable")
+                .register(meterRegistry);
+
+        logger.info("SemesterGenerations initialized with refreshInterval={}", refreshInterval);
+    }
+
+    /**
+     * In-process after the first lookup of a semester; only that first lookup reads Redis inline.
+     * Throws if Redis cannot be read. There is no safe default: generation 0 is the unversioned
+     * namespace, which a bump may already have retired.
+     */
+    public long current(String semester) {
+        try {
+            return generations.get(semester);
+        } catch (RuntimeException e) {
+            unavailableCounter.increment();
+            logger.warn("[Redis][Generation] Read failure: semester={}, error={}", semester, e.getMessage());
+            throw new IllegalStateException("Cache generation unavailable for semester " + semester, e);
+        }
+    }
+
+    /**
+     * As {@link #current}, but empty if Redis cannot be read; the caller then bypasses the cache.
+     */
+    public OptionalLong find(String semester) {
+        try {
+            return OptionalLong.of(current(semester));
+        } catch (IllegalStateException e) {
+            return OptionalLong.empty();
+        }
+    }
+
+    /**
+     * Moves the semester to a new key namespace on every pod. Throws on a Redis failure so the
+     * caller can retry.
+     *
+     * @return the new generation
+     */
+    public long bump(String semester) {
+        Long generation = redisTemplate.opsForValue().increment(KEY_PREFIX + semester);
+        if (generation == null) {
+            throw new IllegalStateException("INCR returned no value for " + KEY_PREFIX + semester);
+        }
+        advance(semester, generation);
+        bumpCounter.increment();
+        try {
+            redisTemplate.convertAndSend(BUMP_CHANNEL, instanceId + SEPARATOR + semester + SEPARATOR + generation);
+        } catch (Exception e) {
+            logger.warn("[Redis][Generation] Bump publish failure, other pods converge on refresh: {}",
+                    e.getMessage());
+        }
+        logger.info("Cache generation bumped: semester={}, generation={}", semester, generation);
+        return generation;
+    }
+
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|");
+        if (parts.length != 3) {
+            logger.warn("[Redis][Generation] Malformed bump message ignored");
+            return;
+        }
+        if (instanceId.equals(parts[0])) {
+            return;
+        }
+        long generation;
+        try {
+            generation = Long.parseLong(parts[2]);
+        } catch (NumberFormatException e) {
+            logger.warn("[Redis][Generation] Malformed bump message ignored");
+            return;
+        }
+        advance(parts[1], generation);
+    }
+
+    // Generations only move forward; a late refresh or a reordered message must not roll one back
+    private void advance(String semester, long generation) {
+        generations.asMap().merge(semester, generation, Math::max);
+    }
+
+    // A corrupted counter is ignored: the known generation is kept, and without one the semester
+    // bypasses the cache (see current) rather than fall back to 0
+    private Long load(String semester) {
+        String value = redisTemplate.opsForValue().get(KEY_PREFIX + semester);
+        Long known = generations.getIfPresent(semester);
+        long loaded;
+        try {
+            loaded = value == null ? 0 : Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            logger.warn("[Redis][Generation] Malformed generation ignored: semester={}", semester);
+            if (known == null) {
+                throw new IllegalStateException("Malformed generation for semester " + semester, e);
+            }
+            return known;
+        }
+        return known == null ? loaded : Math.max(known, loaded);
+    }
+}
@@ -0,0 +1,169 @@
+package com.university.grade.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Per-key request coalescing for cache misses.
+ * Concurrent misses on one pod share a single in-flight load; across pods a short Redis lease
+ * makes followers poll the cache for a bounded time instead of hitting the replica.
+ */
+@Component
+public class SingleFlight {
+    private static final Logger logger = LoggerFactory.getLogger(SingleFlight.class);
+    private static final String LEASE_PREFIX = "grade:lock:";
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final boolean distributedEnabled;
+    private final Duration leaseTtl;
+    private final Duration maxWait;
+    private final Duration pollInterval;
+    private final Counter localCoalescedCounter;
+    private final Counter remoteCoalescedCounter;
+    private final Counter waitTimeoutCounter;
+
+    public SingleFlight(
+            RedisTemplate<String, String> redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.single-flight.distributed-enabled:true}") boolean distributedEnabled,
+            @Value("${app.cache.single-flight.lease-ttl:3s}") Duration leaseTtl,
+            @Value("${app.cache.single-flight.max-wait:500ms}") Duration maxWait,
+            @Value("${app.cache.single-flight.poll-interval:25ms}") Duration pollInterval) {
+        this.redisTemplate = redisTemplate;
+        this.distributedEnabled = distributedEnabled;
+        this.leaseTtl = leaseTtl;
+        this.maxWait = maxWait;
+        this.pollInterval = pollInterval;
+        this.localCoalescedCounter = Counter.builder("grade.cache.coalesced")
+                .tag("scope", "local")
+                .register(meterRegistry);
+        this.remoteCoalescedCounter = Counter.builder("grade.cache.coalesced")
+                .tag("scope", "remote")
+                .register(meterRegistry);
+        this.waitTimeoutCounter = Counter.builder("grade.cache.coalesced.timeout")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs {@code loader} at most once per key at a time on this pod.
+     *
+     * @param key         cache key being loaded
+     * @param cacheLookup re-reads the cache while another pod holds the lease
+     * @param loader      loads from the source and populates the cache
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V execute(String key, Supplier<Optional<V>> cacheLookup, Supplier<V> loader) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            localCoalescedCounter.increment();
+            return (V) awaitLeader(existing, loader);
+        }
+
+        try {
+            V result = loadWithLease(key, cacheLookup, loader);
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private <V> V loadWithLease(String key, Supplier<Optional<V>> cacheLookup, Supplier<V> loader) {
+        if (!distributedEnabled) {
+            return loader.get();
+        }
+
+        String leaseKey = LEASE_PREFIX + key;
+        String token = UUID.randomUUID().toString();
+        Boolean acquired;
+        try {
+            acquired = redisTemplate.opsForValue().setIfAbsent(leaseKey, token, leaseTtl);
+        } catch (Exception e) {
+            logger.warn("[Redis][SingleFlight] Lease acquire failure, loading directly: {}", e.getMessage());
+            return loader.get();
+        }
+
+        if (Boolean.TRUE.equals(acquired)) {
+            try {
+                return loader.get();
+            } finally {
+                releaseLease(leaseKey, token);
+            }
+        }
+
+        // Another pod is loading this key - wait for it to populate the cache
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(pollInterval.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            Optional<V> cached = cacheLookup.get();
+            if (cached.isPresent()) {
+                remoteCoalescedCounter.increment();
+                return cached.get();
+            }
+        }
+
+        waitTimeoutCounter.increment();
+        logger.debug("[Redis][SingleFlight] Lease wait timed out, loading directly");
+        return loader.get();
+    }
+
+    private Object awaitLeader(CompletableFuture<Object> leader, Supplier<?> loader) {
+        try {
+            return leader.get(leaseTtl.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } catch (TimeoutException e) {
+            waitTimeoutCounter.increment();
+            return loader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return loader.get();
+        }
+    }
+
+    private void releaseLease(String leaseKey, String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, Collections.singletonList(leaseKey), token);
+        } catch (Exception e) {
+            logger.warn("[Redis][SingleFlight] Lease release failure (expires on TTL): {}", e.getMessage());
+        }
+    }
+}
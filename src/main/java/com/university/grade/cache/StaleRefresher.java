@@ -0,0 +1,232 @@
+package com.university.grade.cache;
+
+import com.university.grade.cache.codec.CacheEnvelope;
+import com.university.grade.config.CacheReadScope;
+import com.university.grade.config.ReplicaReadContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Stale-while-revalidate / stale-if-error windows shared by the summary and list caches.
+ * An entry past its logical expiry is served as-is for revalidate-window while one background
+ * reload per key runs; after that it is reloaded inline and only served if the reload fails,
+ * until if-error-window has passed and Redis drops it.
+ *
+ * Fresh entries may also be reloaded early (XFetch): each read picks its own early-expiry margin,
+ * beta * recompute cost * -ln(random), so reloads spread out ahead of expiry instead of arriving
+ * together when a batch of entries written at the same time runs out.
+ *
+ * Background reloads run on a small bounded pool. They and inline reloads on a miss load in a
+ * read-only transaction (a replica) from {@link #loadInline} and write the entry after it commits;
+ * reads served from cache never open one.
+ * Each key is reloaded once per pod at a time, and a short Redis lease keeps other pods from
+ * reloading the same key concurrently.
+ */
+@Component
+public class StaleRefresher {
+    private static final Logger logger = LoggerFactory.getLogger(StaleRefresher.class);
+    private static final String LEASE_PREFIX = "grade:refresh:";
+
+    enum Freshness {
+        FRESH,
+        /** Serve and reload in the background */
+        STALE,
+        /** Reload inline; serve only if the reload fails */
+        EXPIRED
+    }
+
+    /**
+     * A loaded value and whether the load read from a lagging replica, captured inside its
+     * transaction.
+     */
+    record Loaded<T>(T value, boolean laggingRead) {
+    }
+
+    /**
+     * Moving average of how long one entry of a cache takes to reload. Concurrent updates may lose
+     * a sample, which does not matter for an estimate.
+     */
+    static final class RecomputeCost {
+        private static final double WEIGHT = 0.2;
+
+        private volatile double millis;
+
+        private RecomputeCost(Duration initial) {
+            this.millis = initial.toMillis();
+        }
+
+        void record(long elapsedNanos) {
+            millis += (elapsedNanos / 1_000_000.0 - millis) * WEIGHT;
+        }
+
+        double millis() {
+            return millis;
+        }
+    }
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration revalidateWindow;
+    private final Duration ifErrorWindow;
+    private final Duration leaseTtl;
+    private final double earlyRefreshBeta;
+    private final Duration initialRecomputeCost;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor;
+    private final Counter refreshSuccessCounter;
+    private final Counter refreshFailureCounter;
+    private final Counter refreshRejectedCounter;
+
+    public StaleRefresher(
+            RedisTemplate<String, String> redisTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.stale.revalidate-window:5m}") Duration revalidateWindow,
+            @Value("${app.cache.stale.if-error-window:1h}") Duration ifErrorWindow,
+            @Value("${app.cache.stale.refresh-threads:4}") int refreshThreads,
+            @Value("${app.cache.stale.refresh-lease:10s}") Duration leaseTtl,
+            @Value("${app.cache.early-refresh.beta:1.0}") double earlyRefreshBeta,
+            @Value("${app.cache.early-refresh.initial-cost:50ms}") Duration initialRecomputeCost) {
+        this.redisTemplate = redisTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.revalidateWindow = revalidateWindow;
+        this.ifErrorWindow = ifErrorWindow.compareTo(revalidateWindow) < 0 ? revalidateWindow : ifErrorWindow;
+        this.leaseTtl = leaseTtl;
+        this.earlyRefreshBeta = earlyRefreshBeta;
+        this.initialRecomputeCost = initialRecomputeCost;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService pool = new ThreadPoolExecutor(refreshThreads, refreshThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(1000), runnable -> {
+                    Thread thread = new Thread(runnable, "cache-refresh-" + threadNumber.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "grade.cache.refresh");
+        this.refreshSuccessCounter = Counter.builder("grade.cache.refresh")
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.refreshFailureCounter = Counter.builder("grade.cache.refresh")
+                .tag("result", "failure")
+                .register(meterRegistry);
+        this.refreshRejectedCounter = Counter.builder("grade.cache.refresh")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+
+        logger.info("StaleRefresher initialized with revalidateWindow={}, ifErrorWindow={}, refreshThreads={}, "
+                + "earlyRefreshBeta={}", revalidateWindow, this.ifErrorWindow, refreshThreads, earlyRefreshBeta);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    Freshness classify(long softExpiresAtMillis) {
+        long now = System.currentTimeMillis();
+        if (now < softExpiresAtMillis) {
+            return Freshness.FRESH;
+        }
+        return now - softExpiresAtMillis < revalidateWindow.toMillis() ? Freshness.STALE : Freshness.EXPIRED;
+    }
+
+    /**
+     * XFetch test for a fresh entry; the chance rises towards 1 as expiry nears, faster for
+     * entries that are expensive to reload. Always false with beta 0.
+     */
+    boolean shouldRefreshEarly(long softExpiresAtMillis, RecomputeCost cost) {
+        if (earlyRefreshBeta <= 0 || softExpiresAtMillis == CacheEnvelope.NO_EXPIRY) {
+            return false;
+        }
+        // 1 - nextDouble() is in (0, 1], so the margin is finite
+        double marginMillis = cost.millis() * earlyRefreshBeta * -Math.log(1 - ThreadLocalRandom.current().nextDouble());
+        return System.currentTimeMillis() + marginMillis >= softExpiresAtMillis;
+    }
+
+    RecomputeCost newRecomputeCost() {
+        return new RecomputeCost(initialRecomputeCost);
+    }
+
+    /**
+     * How long Redis keeps an entry past its logical expiry.
+     */
+    Duration staleRetention() {
+        return ifErrorWindow;
+    }
+
+    /**
+     * Reloads the key in the background unless a reload of it is already running here or on
+     * another pod. As with {@link #loadInline}, only {@code load} runs in the transaction;
+     * {@code store} runs after it commits. Never fails.
+     */
+    <T> void refresh(String key, Supplier<T> load, Consumer<T> store) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    if (claimLease(key)) {
+                        Loaded<T> loaded = loadInline(load);
+                        ReplicaReadContext.replay(loaded.laggingRead(), () -> store.accept(loaded.value()));
+                        refreshSuccessCounter.increment();
+                    }
+                } catch (RuntimeException e) {
+                    refreshFailureCounter.increment();
+                    logger.warn("[Cache] Background refresh failed, serving stale until retry: {}", e.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+            refreshRejectedCounter.increment();
+        }
+    }
+
+    /**
+     * Runs an inline load in a read-only transaction (joining the caller's if there is one). The
+     * caller stores the value after this returns, through {@link ReplicaReadContext#replay} with
+     * the returned flag, so the replica connection is not held across the Redis write.
+     */
+    <T> Loaded<T> loadInline(Supplier<T> load) {
+        return readOnlyTransaction.execute(status ->
+                new Loaded<>(CacheReadScope.suspend(load), ReplicaReadContext.isLaggingRead()));
+    }
+
+    // The lease is left to expire, so a failed reload is not retried by any pod before leaseTtl
+    private boolean claimLease(String key) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LEASE_PREFIX + key, instanceId,
+                    leaseTtl));
+        } catch (Exception e) {
+            // Without Redis the entry cannot be rewritten anyway
+            return false;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.university.grade.cache.codec;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * Cursor over a binary cache payload; the counterpart of {@link BinaryWriter}.
+ */
+final class BinaryReader {
+
+    private final byte[] buffer;
+    private int position;
+
+    BinaryReader(byte[] buffer) {
+        this.buffer = buffer;
+    }
+
+    /** JSON never starts with a control character other than whitespace. */
+    static boolean isBinary(byte[] bytes) {
+        return bytes[0] >= 0 && bytes[0] < 0x09;
+    }
+
+    int readByte() throws IOException {
+        if (position >= buffer.length) {
+            throw new IOException("Truncated binary cache payload");
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    long readVarLong() throws IOException {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IOException("Malformed varint in binary cache payload");
+    }
+
+    long readSignedVarLong() throws IOException {
+        long raw = readVarLong();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    String readString() throws IOException {
+        int length = readLength();
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    BigDecimal readDecimal() throws IOException {
+        int scale = (int) readSignedVarLong();
+        if (readByte() == 0) {
+            return BigDecimal.valueOf(readSignedVarLong(), scale);
+        }
+        int length = readLength();
+        byte[] unscaled = Arrays.copyOfRange(buffer, position, position + length);
+        position += length;
+        return new BigDecimal(new BigInteger(unscaled), scale);
+    }
+
+    LocalDateTime readDateTime() throws IOException {
+        long epochSecond = readSignedVarLong();
+        int nano = (int) readVarLong();
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+
+    private int readLength() throws IOException {
+        long length = readVarLong();
+        if (length < 0 || length > buffer.length - position) {
+            throw new IOException("Invalid length in binary cache payload");
+        }
+        return (int) length;
+    }
+}
@@ -0,0 +1,79 @@
+package com.university.grade.cache.codec;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * Growable buffer with varint/zigzag primitives for the binary cache format.
+ */
+final class BinaryWriter {
+    /** First byte of every binary payload; bump when the layout changes. */
+    static final byte FORMAT_V1 = 0x01;
+
+    private byte[] buffer;
+    private int position;
+
+    BinaryWriter(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    void writeSignedVarLong(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    void writeString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    /** Scale followed by the unscaled value - 95.50 takes 3 bytes instead of 5 characters. */
+    void writeDecimal(BigDecimal value) {
+        writeSignedVarLong(value.scale());
+        if (value.unscaledValue().bitLength() < 64) {
+            writeByte(0);
+            writeSignedVarLong(value.unscaledValue().longValue());
+        } else {
+            byte[] unscaled = value.unscaledValue().toByteArray();
+            writeByte(1);
+            writeVarLong(unscaled.length);
+            ensureCapacity(unscaled.length);
+            System.arraycopy(unscaled, 0, buffer, position, unscaled.length);
+            position += unscaled.length;
+        }
+    }
+
+    void writeDateTime(LocalDateTime value) {
+        writeSignedVarLong(value.toEpochSecond(ZoneOffset.UTC));
+        writeVarLong(value.getNano());
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private void ensureCapacity(int extra) {
+        if (position + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.university.grade.cache.codec;
+
+import java.io.IOException;
+
+/**
+ * Converts a cached payload to and from the bytes stored in Redis.
+ */
+public interface CacheCodec<T> {
+
+    byte[] encode(T value) throws IOException;
+
+    T decode(byte[] bytes) throws IOException;
+}
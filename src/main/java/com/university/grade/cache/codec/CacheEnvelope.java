@@ -0,0 +1,89 @@
+package com.university.grade.cache.codec;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * Prefixes a stored payload with its logical expiry and content version: a marker byte, the
+ * soft-expiry instant as 8-byte big-endian epoch millis, then the leading 64 bits of the payload's
+ * SHA-256. The header is fixed-size, so the version can be read with a GETRANGE of
+ * {@link #HEADER_LENGTH} bytes without transferring the payload.
+ *
+ * The markers never start a bare payload (binary starts with 0x01-0x08, JSON with '{' or '[',
+ * gzip with 0x1f), so entries written before the envelope are still read and count as fresh until
+ * Redis expires them.
+ *
+ * A header with the absent marker and no payload is a negative entry: the source had no data for
+ * the key. It has no soft expiry or version; Redis drops it after its own short TTL.
+ */
+public final class CacheEnvelope {
+    public static final long NO_EXPIRY = Long.MAX_VALUE;
+    public static final long NO_VERSION = 0;
+    private static final byte VERSIONED_MARKER = 0x11;
+    private static final byte ABSENT_MARKER = 0x12;
+    public static final int HEADER_LENGTH = 1 + Long.BYTES + Long.BYTES;
+
+    private CacheEnvelope() {
+    }
+
+    public static byte[] wrap(byte[] payload, long softExpiresAtMillis) {
+        return ByteBuffer.allocate(HEADER_LENGTH + payload.length)
+                .put(VERSIONED_MARKER)
+                .putLong(softExpiresAtMillis)
+                .putLong(versionOf(payload))
+                .put(payload)
+                .array();
+    }
+
+    public static byte[] absent() {
+        return ByteBuffer.allocate(HEADER_LENGTH)
+                .put(ABSENT_MARKER)
+                .putLong(NO_EXPIRY)
+                .putLong(NO_VERSION)
+                .array();
+    }
+
+    public static boolean isAbsent(byte[] stored) {
+        return stored.length == HEADER_LENGTH && stored[0] == ABSENT_MARKER;
+    }
+
+    /**
+     * Also accepts a bare header, as returned by GETRANGE.
+     *
+     * @return the soft-expiry epoch millis, or {@link #NO_EXPIRY} for a bare payload
+     */
+    public static long softExpiresAt(byte[] stored) {
+        return hasHeader(stored) ? ByteBuffer.wrap(stored, 1, Long.BYTES).getLong() : NO_EXPIRY;
+    }
+
+    /**
+     * Also accepts a bare header, as returned by GETRANGE.
+     *
+     * @return the content version, or {@link #NO_VERSION} for a bare payload
+     */
+    public static long contentVersion(byte[] stored) {
+        return hasHeader(stored) ? ByteBuffer.wrap(stored, 1 + Long.BYTES, Long.BYTES).getLong() : NO_VERSION;
+    }
+
+    public static byte[] payload(byte[] stored) {
+        return hasHeader(stored) ? Arrays.copyOfRange(stored, HEADER_LENGTH, stored.length) : stored;
+    }
+
+    /**
+     * The version {@link #wrap} stores for a payload; never {@link #NO_VERSION}.
+     */
+    public static long versionOf(byte[] payload) {
+        try {
+            long version = ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(payload)).getLong();
+            return version == NO_VERSION ? 1 : version;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is required on every Java platform", e);
+        }
+    }
+
+    private static boolean hasHeader(byte[] stored) {
+        return stored.length >= HEADER_LENGTH && (stored[0] == VERSIONED_MARKER || stored[0] == ABSENT_MARKER);
+    }
+}
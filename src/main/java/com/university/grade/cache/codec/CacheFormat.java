@@ -0,0 +1,13 @@
+package com.university.grade.cache.codec;
+
+/**
+ * Write format for cached payloads ({@code app.cache.codec}). Reads always accept both.
+ */
+public enum CacheFormat {
+    JSON,
+    BINARY,
+    /**
+     * Gzip-compressed response JSON; single-semester hits are written to the client as stored
+     */
+    GZIP_JSON
+}
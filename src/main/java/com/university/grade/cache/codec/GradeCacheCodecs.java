@@ -0,0 +1,26 @@
+package com.university.grade.cache.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.university.grade.dto.GradeDetailResponse;
+import com.university.grade.dto.GradeSummaryResponse;
+
+import java.util.List;
+
+public final class GradeCacheCodecs {
+
+    private GradeCacheCodecs() {
+    }
+
+    public static CacheCodec<GradeSummaryResponse> summary(CacheFormat writeFormat, ObjectMapper objectMapper) {
+        return new VersionedCacheCodec<>(writeFormat,
+                new GradeSummaryBinaryCodec(),
+                new JsonCacheCodec<>(objectMapper, objectMapper.constructType(GradeSummaryResponse.class)));
+    }
+
+    public static CacheCodec<List<GradeDetailResponse>> list(CacheFormat writeFormat, ObjectMapper objectMapper) {
+        return new VersionedCacheCodec<>(writeFormat,
+                new GradeListBinaryCodec(),
+                new JsonCacheCodec<>(objectMapper, objectMapper.getTypeFactory()
+                        .constructCollectionType(List.class, GradeDetailResponse.class)));
+    }
+}
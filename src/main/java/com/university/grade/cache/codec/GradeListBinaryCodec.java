@@ -0,0 +1,93 @@
+package com.university.grade.cache.codec;
+
+import com.university.grade.dto.GradeDetailResponse;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Layout: version, type, element count, then per course a presence mask and the non-null fields.
+ * isFinalized lives entirely in the mask (present bit + value bit).
+ */
+public class GradeListBinaryCodec implements CacheCodec<List<GradeDetailResponse>> {
+    static final byte TYPE_LIST = 0x02;
+
+    private static final int HAS_ENROLLMENT_ID = 1;
+    private static final int HAS_COURSE_CODE = 1 << 1;
+    private static final int HAS_COURSE_NAME = 1 << 2;
+    private static final int HAS_CREDIT = 1 << 3;
+    private static final int HAS_SCORE = 1 << 4;
+    private static final int HAS_GRADE_LETTER = 1 << 5;
+    private static final int HAS_FINALIZED = 1 << 6;
+    private static final int FINALIZED_TRUE = 1 << 7;
+    private static final int HAS_FINALIZED_AT = 1 << 8;
+
+    @Override
+    public byte[] encode(List<GradeDetailResponse> value) {
+        BinaryWriter writer = new BinaryWriter(16 + value.size() * 64);
+        writer.writeByte(BinaryWriter.FORMAT_V1);
+        writer.writeByte(TYPE_LIST);
+        writer.writeVarLong(value.size());
+        for (GradeDetailResponse detail : value) {
+            writeDetail(writer, detail);
+        }
+        return writer.toByteArray();
+    }
+
+    @Override
+    public List<GradeDetailResponse> decode(byte[] bytes) throws IOException {
+        BinaryReader reader = new BinaryReader(bytes);
+        if (reader.readByte() != BinaryWriter.FORMAT_V1 || reader.readByte() != TYPE_LIST) {
+            throw new IOException("Unsupported binary grade list payload");
+        }
+
+        long count = reader.readVarLong();
+        if (count > bytes.length) {
+            throw new IOException("Invalid element count in binary grade list payload");
+        }
+        List<GradeDetailResponse> result = new ArrayList<>((int) count);
+        for (long i = 0; i < count; i++) {
+            result.add(readDetail(reader));
+        }
+        return result;
+    }
+
+    private void writeDetail(BinaryWriter writer, GradeDetailResponse detail) {
+        int mask = 0;
+        if (detail.getEnrollmentId() != null) mask |= HAS_ENROLLMENT_ID;
+        if (detail.getCourseCode() != null) mask |= HAS_COURSE_CODE;
+        if (detail.getCourseName() != null) mask |= HAS_COURSE_NAME;
+        if (detail.getCredit() != null) mask |= HAS_CREDIT;
+        if (detail.getScore() != null) mask |= HAS_SCORE;
+        if (detail.getGradeLetter() != null) mask |= HAS_GRADE_LETTER;
+        if (detail.getIsFinalized() != null) {
+            mask |= HAS_FINALIZED;
+            if (detail.getIsFinalized()) mask |= FINALIZED_TRUE;
+        }
+        if (detail.getFinalizedAt() != null) mask |= HAS_FINALIZED_AT;
+        writer.writeVarLong(mask);
+
+        if ((mask & HAS_ENROLLMENT_ID) != 0) writer.writeSignedVarLong(detail.getEnrollmentId());
+        if ((mask & HAS_COURSE_CODE) != 0) writer.writeString(detail.getCourseCode());
+        if ((mask & HAS_COURSE_NAME) != 0) writer.writeString(detail.getCourseName());
+        if ((mask & HAS_CREDIT) != 0) writer.writeSignedVarLong(detail.getCredit());
+        if ((mask & HAS_SCORE) != 0) writer.writeDecimal(detail.getScore());
+        if ((mask & HAS_GRADE_LETTER) != 0) writer.writeString(detail.getGradeLetter());
+        if ((mask & HAS_FINALIZED_AT) != 0) writer.writeDateTime(detail.getFinalizedAt());
+    }
+
+    private GradeDetailResponse readDetail(BinaryReader reader) throws IOException {
+        int mask = (int) reader.readVarLong();
+        GradeDetailResponse detail = new GradeDetailResponse();
+        if ((mask & HAS_ENROLLMENT_ID) != 0) detail.setEnrollmentId(reader.readSignedVarLong());
+        if ((mask & HAS_COURSE_CODE) != 0) detail.setCourseCode(reader.readString());
+        if ((mask & HAS_COURSE_NAME) != 0) detail.setCourseName(reader.readString());
+        if ((mask & HAS_CREDIT) != 0) detail.setCredit((int) reader.readSignedVarLong());
+        if ((mask & HAS_SCORE) != 0) detail.setScore(reader.readDecimal());
+        if ((mask & HAS_GRADE_LETTER) != 0) detail.setGradeLetter(reader.readString());
+        if ((mask & HAS_FINALIZED) != 0) detail.setIsFinalized((mask & FINALIZED_TRUE) != 0);
+        if ((mask & HAS_FINALIZED_AT) != 0) detail.setFinalizedAt(reader.readDateTime());
+        return detail;
+    }
+}
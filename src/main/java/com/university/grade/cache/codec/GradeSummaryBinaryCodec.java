@@ -0,0 +1,57 @@
+package com.university.grade.cache.codec;
+
+import com.university.grade.dto.GradeSummaryResponse;
+
+import java.io.IOException;
+
+/**
+ * Layout: version, type, presence mask, then the non-null fields in declaration order.
+ */
+public class GradeSummaryBinaryCodec implements CacheCodec<GradeSummaryResponse> {
+    static final byte TYPE_SUMMARY = 0x01;
+
+    private static final int HAS_STUDENT_ID = 1;
+    private static final int HAS_SEMESTER = 1 << 1;
+    private static final int HAS_GPA = 1 << 2;
+    private static final int HAS_TOTAL_CREDITS = 1 << 3;
+    private static final int HAS_UPDATED_AT = 1 << 4;
+
+    @Override
+    public byte[] encode(GradeSummaryResponse value) {
+        BinaryWriter writer = new BinaryWriter(48);
+        writer.writeByte(BinaryWriter.FORMAT_V1);
+        writer.writeByte(TYPE_SUMMARY);
+
+        int mask = 0;
+        if (value.getStudentId() != null) mask |= HAS_STUDENT_ID;
+        if (value.getSemester() != null) mask |= HAS_SEMESTER;
+        if (value.getGpa() != null) mask |= HAS_GPA;
+        if (value.getTotalCredits() != null) mask |= HAS_TOTAL_CREDITS;
+        if (value.getUpdatedAt() != null) mask |= HAS_UPDATED_AT;
+        writer.writeVarLong(mask);
+
+        if ((mask & HAS_STUDENT_ID) != 0) writer.writeSignedVarLong(value.getStudentId());
+        if ((mask & HAS_SEMESTER) != 0) writer.writeString(value.getSemester());
+        if ((mask & HAS_GPA) != 0) writer.writeDecimal(value.getGpa());
+        if ((mask & HAS_TOTAL_CREDITS) != 0) writer.writeSignedVarLong(value.getTotalCredits());
+        if ((mask & HAS_UPDATED_AT) != 0) writer.writeDateTime(value.getUpdatedAt());
+        return writer.toByteArray();
+    }
+
+    @Override
+    public GradeSummaryResponse decode(byte[] bytes) throws IOException {
+        BinaryReader reader = new BinaryReader(bytes);
+        if (reader.readByte() != BinaryWriter.FORMAT_V1 || reader.readByte() != TYPE_SUMMARY) {
+            throw new IOException("Unsupported binary grade summary payload");
+        }
+
+        int mask = (int) reader.readVarLong();
+        GradeSummaryResponse response = new GradeSummaryResponse();
+        if ((mask & HAS_STUDENT_ID) != 0) response.setStudentId(reader.readSignedVarLong());
+        if ((mask & HAS_SEMESTER) != 0) response.setSemester(reader.readString());
+        if ((mask & HAS_GPA) != 0) response.setGpa(reader.readDecimal());
+        if ((mask & HAS_TOTAL_CREDITS) != 0) response.setTotalCredits((int) reader.readSignedVarLong());
+        if ((mask & HAS_UPDATED_AT) != 0) response.setUpdatedAt(reader.readDateTime());
+        return response;
+    }
+}
@@ -0,0 +1,33 @@
+package com.university.grade.cache.codec;
+
+import com.university.grade.util.GzipUtil;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Gzip around another codec. Compressed payloads start with the gzip magic 0x1f 0x8b, which no
+ * other stored format does.
+ */
+public class GzipCacheCodec<T> implements CacheCodec<T> {
+
+    private final CacheCodec<T> codec;
+
+    public GzipCacheCodec(CacheCodec<T> codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public byte[] encode(T value) throws IOException {
+        return GzipUtil.gzip(codec.encode(value));
+    }
+
+    @Override
+    public T decode(byte[] bytes) throws IOException {
+        try {
+            return codec.decode(GzipUtil.gunzip(bytes));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.university.grade.cache.codec;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+
+/**
+ * Jackson codec - the original cache format, kept for reading entries written before the binary codec.
+ */
+public class JsonCacheCodec<T> implements CacheCodec<T> {
+
+    private final ObjectMapper objectMapper;
+    private final JavaType type;
+
+    public JsonCacheCodec(ObjectMapper objectMapper, JavaType type) {
+        this.objectMapper = objectMapper;
+        this.type = type;
+    }
+
+    @Override
+    public byte[] encode(T value) throws IOException {
+        return objectMapper.writeValueAsBytes(value);
+    }
+
+    @Override
+    public T decode(byte[] bytes) throws IOException {
+        return objectMapper.readValue(bytes, type);
+    }
+}
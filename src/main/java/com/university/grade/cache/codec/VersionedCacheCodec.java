@@ -0,0 +1,45 @@
+package com.university.grade.cache.codec;
+
+import com.university.grade.util.GzipUtil;
+
+import java.io.IOException;
+
+/**
+ * Writes in the configured format and detects the format on read.
+ * Binary payloads start with a version byte in 0x01-0x08 and gzip with 0x1f 0x8b, which a JSON
+ * document never does, so entries of every format stay readable until they age out.
+ */
+public class VersionedCacheCodec<T> implements CacheCodec<T> {
+
+    private final CacheFormat writeFormat;
+    private final CacheCodec<T> binaryCodec;
+    private final CacheCodec<T> jsonCodec;
+    private final CacheCodec<T> gzipJsonCodec;
+
+    public VersionedCacheCodec(CacheFormat writeFormat, CacheCodec<T> binaryCodec, CacheCodec<T> jsonCodec) {
+        this.writeFormat = writeFormat;
+        this.binaryCodec = binaryCodec;
+        this.jsonCodec = jsonCodec;
+        this.gzipJsonCodec = new GzipCacheCodec<>(jsonCodec);
+    }
+
+    @Override
+    public byte[] encode(T value) throws IOException {
+        return switch (writeFormat) {
+            case BINARY -> binaryCodec.encode(value);
+            case JSON -> jsonCodec.encode(value);
+            case GZIP_JSON -> gzipJsonCodec.encode(value);
+        };
+    }
+
+    @Override
+    public T decode(byte[] bytes) throws IOException {
+        if (bytes.length > 0 && BinaryReader.isBinary(bytes)) {
+            return binaryCodec.decode(bytes);
+        }
+        if (GzipUtil.isGzip(bytes)) {
+            return gzipJsonCodec.decode(bytes);
+        }
+        return jsonCodec.decode(bytes);
+    }
+}
@@ -0,0 +1,45 @@
+package com.university.grade.config;
+
+import java.util.function.Supplier;
+
+/**
+ * 캐시 조회 구간을 현재 스레드에 표시
+ * 이 구간에서 커넥션을 빌리면 grade.db.borrow.cache-read로 집계 (캐시 히트는 DB를 사용하지 않으므로 항상 0이어야 함)
+ * 캐시 미스 시 원본 로드는 {@link #suspend}로 구간을 벗어나서 실행
+ */
+public final class CacheReadScope {
+    private static final ThreadLocal<Boolean> CACHE_READ = new ThreadLocal<>();
+
+    private CacheReadScope() {
+    }
+
+    public static <T> T call(Supplier<T> action) {
+        return run(Boolean.TRUE, action);
+    }
+
+    public static <T> T suspend(Supplier<T> action) {
+        return run(null, action);
+    }
+
+    public static boolean isActive() {
+        return Boolean.TRUE.equals(CACHE_READ.get());
+    }
+
+    private static <T> T run(Boolean state, Supplier<T> action) {
+        Boolean previous = CACHE_READ.get();
+        set(state);
+        try {
+            return action.get();
+        } finally {
+            set(previous);
+        }
+    }
+
+    private static void set(Boolean state) {
+        if (state == null) {
+            CACHE_READ.remove();
+        } else {
+            CACHE_READ.set(state);
+        }
+    }
+}
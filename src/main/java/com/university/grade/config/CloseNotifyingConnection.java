@@ -0,0 +1,38 @@
+package com.university.grade.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 커넥션 반환(close) 시점에 한 번만 콜백을 실행하는 프록시
+ */
+final class CloseNotifyingConnection {
+
+    private CloseNotifyingConnection() {
+    }
+
+    static Connection wrap(Connection target, Runnable onClose) {
+        AtomicBoolean closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                (proxy, method, args) -> {
+                    if ("equals".equals(method.getName())) {
+                        return proxy == args[0];
+                    }
+                    if ("hashCode".equals(method.getName())) {
+                        return System.identityHashCode(proxy);
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    } finally {
+                        if ("close".equals(method.getName()) && closed.compareAndSet(false, true)) {
+                            onClose.run();
+                        }
+                    }
+                });
+    }
+}
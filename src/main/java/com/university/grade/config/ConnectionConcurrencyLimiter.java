@@ -0,0 +1,92 @@
+package com.university.grade.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 데이터소스별 동시 커넥션 점유 상한
+ * Virtual Thread 모드에서는 요청 수만큼 스레드가 생기므로, Hikari 대기열(connection-timeout 30초)에
+ * 수천 개가 쌓이기 전에 짧은 대기 후 실패시켜 풀을 보호
+ */
+public class ConnectionConcurrencyLimiter {
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionConcurrencyLimiter.class);
+
+    private final Map<String, Semaphore> permits = new ConcurrentHashMap<>();
+    private final Map<String, Counter> rejectedCounters = new ConcurrentHashMap<>();
+    private final Duration acquireTimeout;
+    private final MeterRegistry meterRegistry;
+
+    public ConnectionConcurrencyLimiter(Duration acquireTimeout, MeterRegistry meterRegistry) {
+        this.acquireTimeout = acquireTimeout;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void register(String dataSourceKey, int maxConcurrent) {
+        Semaphore semaphore = new Semaphore(maxConcurrent, true);
+        permits.put(dataSourceKey, semaphore);
+        Gauge.builder("grade.db.permits.available", semaphore, Semaphore::availablePermits)
+                .tag("datasource", dataSourceKey)
+                .register(meterRegistry);
+        rejectedCounters.put(dataSourceKey, Counter.builder("grade.db.permits.rejected")
+                .tag("datasource", dataSourceKey)
+                .register(meterRegistry));
+    }
+
+    /**
+     * 허가를 얻은 뒤 커넥션을 가져오며, 반환된 커넥션의 close() 시점에 허가를 돌려줌
+     */
+    public Connection acquire(String dataSourceKey, ConnectionSupplier supplier) throws SQLException {
+        Semaphore semaphore = permits.get(dataSourceKey);
+        if (semaphore == null) {
+            return supplier.get();
+        }
+
+        boolean acquired;
+        try {
+            acquired = semaphore.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for " + dataSourceKey + " permit");
+        }
+        if (!acquired) {
+            rejectedCounters.get(dataSourceKey).increment();
+            logger.warn("Datasource {} concurrency limit reached, rejecting connection request", dataSourceKey);
+            throw new LimitExceededException("Concurrency limit reached for " + dataSourceKey);
+        }
+
+        try {
+            return CloseNotifyingConnection.wrap(supplier.get(), semaphore::release);
+        } catch (SQLException | RuntimeException e) {
+            semaphore.release();
+            throw e;
+        }
+    }
+
+    @FunctionalInterface
+    public interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+
+    /**
+     * 과부하에 의한 거절 - 장애가 아니므로 Circuit Breaker 집계 및 Failover 대상이 아님
+     */
+    public static class LimitExceededException extends SQLTransientConnectionException {
+        private static final long serialVersionUID = 1L;
+
+        public LimitExceededException(String reason) {
+            super(reason);
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.university.grade.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 데이터소스별 Circuit Breaker (CLOSED -> OPEN -> HALF_OPEN -> CLOSED/OPEN)
+ * - CLOSED: 최근 window-size 건의 호출 중 실패율 또는 지연 호출 비율이 임계치를 넘으면 OPEN
+ * - OPEN: open-duration 동안 트래픽 차단
+ * - HALF_OPEN: half-open-permits 건의 시험 호출만 허용하고, 그 결과로 CLOSED/OPEN 결정
+ * 호출 = 커넥션 대여부터 반환까지 (쿼리 실패 포함, 지연은 Statement 실행 시간 기준)
+ * Virtual Thread pinning을 피하기 위해 synchronized 대신 ReentrantLock 사용
+ */
+public class DataSourceCircuitBreaker {
+    private static final Logger logger = LoggerFactory.getLogger(DataSourceCircuitBreaker.class);
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    public enum Outcome {
+        SUCCESS,
+        SLOW,
+        FAILURE
+    }
+
+    /**
+     * @param failureRateThreshold 실패율 임계치 (%)
+     * @param slowCallRateThreshold 지연 호출 비율 임계치 (%)
+     */
+    public record Settings(int windowSize, int minimumCalls, int failureRateThreshold, Duration slowCallDuration,
+            int slowCallRateThreshold, Duration openDuration, int halfOpenPermits) {
+    }
+
+    private final String name;
+    private final Settings settings;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Outcome[] window;
+    private final MeterRegistry meterRegistry;
+
+    private volatile State state = State.CLOSED;
+    private int windowIndex;
+    private int windowCount;
+    private int failures;
+    private int slowCalls;
+    private volatile long openedAtNanos;
+    private int probesIssued;
+    private int probesCompleted;
+    private int probeFailures;
+    private int probeSlowCalls;
+
+    public DataSourceCircuitBreaker(String name, Settings settings, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.settings = settings;
+        this.window = new Outcome[settings.windowSize()];
+        this.meterRegistry = meterRegistry;
+        for (State candidate : State.values()) {
+            Gauge.builder("grade.db.circuit.state", this, breaker -> breaker.state == candidate ? 1 : 0)
+                    .tag("datasource", name)
+                    .tag("state", candidate.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public Duration getSlowCallDuration() {
+        return settings.slowCallDuration();
+    }
+
+    /**
+     * 라우팅 후보로 고려할 수 있는지 (허가를 소비하지 않음)
+     */
+    public boolean isAvailable() {
+        State current = state;
+        if (current == State.CLOSED) {
+            return true;
+        }
+        lock.lock();
+        try {
+            return switch (state) {
+                case CLOSED -> true;
+                case OPEN -> openElapsed();
+                case HALF_OPEN -> probesIssued < settings.halfOpenPermits();
+            };
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 호출 허가 획득. OPEN 유지 시간이 지났으면 HALF_OPEN으로 전환하고 시험 호출 허가를 발급
+     */
+    public boolean tryAcquirePermission() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        lock.lock();
+        try {
+            if (state == State.OPEN) {
+                if (!openElapsed()) {
+                    return false;
+                }
+                transitionTo(State.HALF_OPEN);
+            }
+            if (state == State.HALF_OPEN) {
+                if (probesIssued >= settings.halfOpenPermits()) {
+                    return false;
+                }
+                probesIssued++;
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 결과 없이 끝난 호출(과부하 거절 등)의 허가 반환
+     */
+    public void releasePermission() {
+        if (state != State.HALF_OPEN) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN && probesIssued > probesCompleted) {
+                probesIssued--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void record(Outcome outcome) {
+        lock.lock();
+        try {
+            switch (state) {
+                case CLOSED -> recordClosed(outcome);
+                case HALF_OPEN -> recordProbe(outcome);
+                case OPEN -> {
+                    // OPEN 전환 이전에 대여된 커넥션의 결과는 무시
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void recordClosed(Outcome outcome) {
+        Outcome evicted = window[windowIndex];
+        if (evicted == Outcome.FAILURE) {
+            failures--;
+        } else if (evicted == Outcome.SLOW) {
+            slowCalls--;
+        }
+        window[windowIndex] = outcome;
+        windowIndex = (windowIndex + 1) % window.length;
+        if (windowCount < window.length) {
+            windowCount++;
+        }
+        if (outcome == Outcome.FAILURE) {
+            failures++;
+        } else if (outcome == Outcome.SLOW) {
+            slowCalls++;
+        }
+
+        if (windowCount >= settings.minimumCalls() && exceedsThresholds(failures, slowCalls, windowCount)) {
+            logger.error("Datasource {} circuit opened: failures={}, slowCalls={}, calls={}",
+                    name, failures, slowCalls, windowCount);
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void recordProbe(Outcome outcome) {
+        if (probesCompleted >= probesIssued) {
+            // HALF_OPEN 전환 이전에 대여된 커넥션의 결과는 시험 호출로 세지 않음
+            return;
+        }
+        probesCompleted++;
+        if (outcome == Outcome.FAILURE) {
+            probeFailures++;
+        } else if (outcome == Outcome.SLOW) {
+            probeSlowCalls++;
+        }
+        if (probesCompleted < settings.halfOpenPermits()) {
+            return;
+        }
+        if (exceedsThresholds(probeFailures, probeSlowCalls, probesCompleted)) {
+            logger.warn("Datasource {} probe calls failed (failures={}, slowCalls={}), reopening circuit",
+                    name, probeFailures, probeSlowCalls);
+            transitionTo(State.OPEN);
+        } else {
+            logger.info("Datasource {} has been recovered", name);
+            transitionTo(State.CLOSED);
+        }
+    }
+
+    private boolean exceedsThresholds(int failed, int slow, int calls) {
+        return failed * 100 >= settings.failureRateThreshold() * calls
+                || slow * 100 >= settings.slowCallRateThreshold() * calls;
+    }
+
+    private boolean openElapsed() {
+        return System.nanoTime() - openedAtNanos >= settings.openDuration().toNanos();
+    }
+
+    private void transitionTo(State next) {
+        State previous = state;
+        state = next;
+        switch (next) {
+            case OPEN -> openedAtNanos = System.nanoTime();
+            case HALF_OPEN -> logger.info("Attempting to recover datasource: {}", name);
+            case CLOSED -> {
+                Arrays.fill(window, null);
+                windowIndex = 0;
+                windowCount = 0;
+                failures = 0;
+                slowCalls = 0;
+            }
+        }
+        probesIssued = 0;
+        probesCompleted = 0;
+        probeFailures = 0;
+        probeSlowCalls = 0;
+        Counter.builder("grade.db.circuit.transitions")
+                .tag("datasource", name)
+                .tag("from", previous.name().toLowerCase())
+                .tag("to", next.name().toLowerCase())
+                .register(meterRegistry)
+                .increment();
+    }
+}
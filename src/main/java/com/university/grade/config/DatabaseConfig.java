@@ -2,7 +2,11 @@ package com.university.grade.config;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -15,10 +19,17 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Configuration
 public class DatabaseConfig {
@@ -59,13 +70,90 @@ public class DatabaseConfig {
         return properties.initializeDataSourceBuilder().build();
     }
 
+    @Bean
+    public ReplicationLagMonitor replicationLagMonitor(
+            @Qualifier("readReplica1DataSource") DataSource readReplica1DataSource,
+            @Qualifier("readReplica2DataSource") DataSource readReplica2DataSource,
+            MeterRegistry meterRegistry,
+            @Value("${app.db.replica.lag.enabled:false}") boolean lagCheckEnabled,
+            @Value("${app.db.replica.lag.source:replica-status}") String lagSource,
+            @Value("${app.db.replica.lag.heartbeat-table:heartbeat}") String heartbeatTable,
+            @Value("${app.db.replica.lag.interval:1s}") Duration interval,
+            @Value("${app.db.replica.lag.max-lag:10s}") Duration maxLag,
+            @Value("${app.db.replica.lag.cache-max-lag:2s}") Duration cacheMaxLag) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("readReplica1", readReplica1DataSource);
+        replicas.put("readReplica2", readReplica2DataSource);
+        ReplicationLagMonitor monitor = new ReplicationLagMonitor(replicas,
+                ReplicationLagMonitor.Source.valueOf(lagSource.trim().toUpperCase().replace('-', '_')),
+                heartbeatTable, maxLag, cacheMaxLag, meterRegistry);
+        // 비활성화 시 지연은 항상 0으로 간주
+        if (lagCheckEnabled) {
+            monitor.start(interval);
+        }
+        return monitor;
+    }
+
+    @Bean
+    public DataSourceCircuitBreaker.Settings dataSourceCircuitBreakerSettings(
+            @Value("${app.db.circuit-breaker.window-size:20}") int windowSize,
+            @Value("${app.db.circuit-breaker.minimum-calls:10}") int minimumCalls,
+            @Value("${app.db.circuit-breaker.failure-rate-threshold:50}") int failureRateThreshold,
+            @Value("${app.db.circuit-breaker.slow-call-duration:2s}") Duration slowCallDuration,
+            @Value("${app.db.circuit-breaker.slow-call-rate-threshold:80}") int slowCallRateThreshold,
+            @Value("${app.db.circuit-breaker.open-duration:30s}") Duration openDuration,
+            @Value("${app.db.circuit-breaker.half-open-permits:3}") int halfOpenPermits) {
+        return new DataSourceCircuitBreaker.Settings(windowSize, minimumCalls, failureRateThreshold,
+                slowCallDuration, slowCallRateThreshold, openDuration, halfOpenPermits);
+    }
+
     @Bean
     public DataSource routingDataSource(
             @Qualifier("masterDataSource") DataSource masterDataSource,
             @Qualifier("readReplica1DataSource") DataSource readReplica1DataSource,
-            @Qualifier("readReplica2DataSource") DataSource readReplica2DataSource) {
+            @Qualifier("readReplica2DataSource") DataSource readReplica2DataSource,
+            ReplicationLagMonitor replicationLagMonitor,
+            DataSourceCircuitBreaker.Settings circuitBreakerSettings,
+            MeterRegistry meterRegistry,
+            @Value("${app.db.concurrency-limit.enabled:${spring.threads.virtual.enabled:false}}") boolean limitEnabled,
+            @Value("${app.db.concurrency-limit.master:20}") int masterLimit,
+            @Value("${app.db.concurrency-limit.replica:15}") int replicaLimit,
+            @Value("${app.db.concurrency-limit.acquire-timeout:2s}") Duration acquireTimeout,
+            @Value("${app.db.replica.strategy:round-robin}") String replicaStrategy,
+            @Value("${app.db.replica.weights.readReplica1:1}") int replica1Weight,
+            @Value("${app.db.replica.weights.readReplica2:1}") int replica2Weight,
+            @Value("${app.db.replica.ewma-decay:10s}") Duration ewmaDecay) {
+
+        Map<String, Integer> replicaWeights = new LinkedHashMap<>();
+        replicaWeights.put("readReplica1", replica1Weight);
+        replicaWeights.put("readReplica2", replica2Weight);
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("readReplica1", readReplica1DataSource);
+        replicas.put("readReplica2", readReplica2DataSource);
+        ReplicaSelector.Strategy strategy = ReplicaSelector.Strategy.valueOf(
+                replicaStrategy.trim().toUpperCase().replace('-', '_'));
+        ReplicaSelector replicaSelector = new ReplicaSelector(strategy, replicaWeights, replicas, ewmaDecay,
+                meterRegistry);
+        logger.info("Replica selection strategy={}, weights={}", strategy, replicaWeights);
+
+        Map<String, DataSourceCircuitBreaker> circuitBreakers = new LinkedHashMap<>();
+        for (String replica : replicas.keySet()) {
+            circuitBreakers.put(replica, new DataSourceCircuitBreaker(replica, circuitBreakerSettings, meterRegistry));
+        }
 
-        FailoverRoutingDataSource routingDataSource = new FailoverRoutingDataSource();
+        FailoverRoutingDataSource routingDataSource = new FailoverRoutingDataSource(replicaSelector,
+                replicationLagMonitor, circuitBreakers, meterRegistry);
+
+        // Virtual Thread 모드에서 풀 크기 이상의 동시 요청이 DB로 몰리지 않도록 제한
+        if (limitEnabled) {
+            ConnectionConcurrencyLimiter limiter = new ConnectionConcurrencyLimiter(acquireTimeout, meterRegistry);
+            limiter.register("master", masterLimit);
+            limiter.register("readReplica1", replicaLimit);
+            limiter.register("readReplica2", replicaLimit);
+            routingDataSource.setConnectionLimiter(limiter);
+            logger.info("Datasource concurrency limit enabled: master={}, replica={}, acquireTimeout={}",
+                    masterLimit, replicaLimit, acquireTimeout);
+        }
 
         Map<Object, Object> dataSourceMap = new HashMap<>();
         dataSourceMap.put("master", masterDataSource);
@@ -91,13 +179,30 @@ public class DatabaseConfig {
     public static class FailoverRoutingDataSource extends AbstractRoutingDataSource {
         private static final Logger logger = LoggerFactory.getLogger(FailoverRoutingDataSource.class);
 
-        // 데이터소스별 실패 카운트 및 마지막 실패 시간 추적
-        private final Map<String, AtomicLong> failureCount = new ConcurrentHashMap<>();
-        private final Map<String, Long> lastFailureTime = new ConcurrentHashMap<>();
+        // Replica별 Circuit Breaker (Master는 최후의 대상이므로 차단하지 않음)
+        private final Map<String, DataSourceCircuitBreaker> circuitBreakers;
+        private final ReplicaSelector replicaSelector;
+        private final ReplicationLagMonitor lagMonitor;
+        private final MeterRegistry meterRegistry;
+        private final Map<String, Counter> routingCounters = new ConcurrentHashMap<>();
+        private final Map<String, Timer> holdTimers = new ConcurrentHashMap<>();
+        private final Counter cacheReadBorrowCounter;
+        private ConnectionConcurrencyLimiter connectionLimiter;
+
+        public FailoverRoutingDataSource(ReplicaSelector replicaSelector, ReplicationLagMonitor lagMonitor,
+                Map<String, DataSourceCircuitBreaker> circuitBreakers, MeterRegistry meterRegistry) {
+            this.replicaSelector = replicaSelector;
+            this.circuitBreakers = circuitBreakers;
+            this.lagMonitor = lagMonitor;
+            this.meterRegistry = meterRegistry;
+            // 미리 등록해 두어 0이 노출되도록 함
+            this.cacheReadBorrowCounter = Counter.builder("grade.db.borrow.cache-read")
+                    .register(meterRegistry);
+        }
 
-        // Circuit Breaker 설정
-        private static final int MAX_FAILURES = 3;
-        private static final long RECOVERY_TIME_MS = 30000; // 30초
+        public void setConnectionLimiter(ConnectionConcurrencyLimiter connectionLimiter) {
+            this.connectionLimiter = connectionLimiter;
+        }
 
         @Override
         protected Object determineCurrentLookupKey() {
@@ -121,36 +226,64 @@ public class DatabaseConfig {
         }
 
         /**
-         * 사용 가능한 Read Replica 선택 (Round Robin + Health Check)
+         * 사용 가능한 Read Replica 선택 (설정된 전략 + Health Check + 복제 지연)
+         * 모든 Replica가 지연 중이면 null -> Master에서 읽어 최신 데이터 보장
          */
         private String selectAvailableReplica() {
-            String[] replicas = { "readReplica1", "readReplica2" };
-
-            // 모든 replica가 사용 가능한지 확인
-            for (String replica : replicas) {
-                if (isDataSourceAvailable(replica)) {
-                    return replica;
-                }
-            }
-
-            return null; // 모든 replica가 사용 불가능
+            return replicaSelector.select(key -> isDataSourceAvailable(key) && !lagMonitor.isExcluded(key));
         }
 
         @Override
         public Connection getConnection() throws SQLException {
             String targetKey = (String) determineCurrentLookupKey();
+            boolean replicaOnly = ReplicaOnlyRouting.isActive();
+            if (replicaOnly && !targetKey.startsWith("readReplica")) {
+                // Replica 전용 작업은 Master로 보내지 않음
+                throw new SQLException("No read replica available for replica-only operation");
+            }
 
+            // super.getConnection()은 라우팅 키를 다시 결정하므로 이미 선택한 대상을 직접 사용
+            DataSource target = getResolvedDataSources().get(targetKey);
+            if (target == null) {
+                throw new SQLException("Datasource not available: " + targetKey);
+            }
+
+            DataSourceCircuitBreaker breaker = circuitBreakers.get(targetKey);
+            if (breaker != null && !breaker.tryAcquirePermission()) {
+                // 선택 직후 HALF_OPEN 시험 허가가 소진된 경우
+                if (replicaOnly) {
+                    throw new SQLException("Circuit open for " + targetKey + " during replica-only operation");
+                }
+                logger.debug("{} circuit not permitting calls, routing to master", targetKey);
+                return getConnectionFromMaster();
+            }
+
+            long borrowedAt = System.nanoTime();
             try {
-                Connection connection = super.getConnection();
-                // 연결 성공 시 실패 카운트 리셋
-                resetFailureCount(targetKey);
-                return connection;
+                Connection connection = connectionLimiter != null
+                        ? connectionLimiter.acquire(targetKey, target::getConnection)
+                        : target.getConnection();
+                countRouting(targetKey);
+                if (breaker == null) {
+                    return connection;
+                }
+                if (lagMonitor.isTooStaleToCache(targetKey)) {
+                    ReplicaReadContext.markLaggingRead(targetKey);
+                }
+                return observeReplicaCall(targetKey, breaker, connection, borrowedAt, replicaOnly);
+            } catch (ConnectionConcurrencyLimiter.LimitExceededException e) {
+                // 동시성 제한 초과는 Master로 넘기지 않음 (부하 전이 방지)
+                if (breaker != null) {
+                    breaker.releasePermission();
+                }
+                throw e;
             } catch (SQLException e) {
-                // 연결 실패 시 실패 카운트 증가
-                recordFailure(targetKey);
+                if (breaker != null) {
+                    breaker.record(DataSourceCircuitBreaker.Outcome.FAILURE);
+                }
 
                 // 읽기 전용이고 Replica 실패 시 Master로 재시도
-                if (targetKey.startsWith("readReplica")) {
+                if (breaker != null && !replicaOnly) {
                     logger.warn("{} connection failed, trying master: {}", targetKey, e.getMessage());
                     try {
                         // Master로 강제 라우팅
@@ -166,53 +299,80 @@ public class DatabaseConfig {
         }
 
         private Connection getConnectionFromMaster() throws SQLException {
-            DataSource masterDataSource = (DataSource) getResolvedDataSources().get("master");
+            DataSource masterDataSource = getResolvedDataSources().get("master");
             if (masterDataSource != null) {
-                Connection connection = masterDataSource.getConnection();
-                resetFailureCount("master");
+                Connection connection = connectionLimiter != null
+                        ? connectionLimiter.acquire("master", masterDataSource::getConnection)
+                        : masterDataSource.getConnection();
+                countRouting("master");
                 return connection;
             }
             throw new SQLException("Master datasource not available");
         }
 
-        private boolean isDataSourceAvailable(String key) {
-            AtomicLong failures = failureCount.get(key);
-            Long lastFailure = lastFailureTime.get(key);
-
-            if (failures == null || failures.get() < MAX_FAILURES) {
-                return true;
+        private void countRouting(String key) {
+            routingCounters.computeIfAbsent(key, k -> Counter.builder("grade.db.routing")
+                    .tag("target", k)
+                    .register(meterRegistry)).increment();
+            if (CacheReadScope.isActive()) {
+                // 캐시 히트 경로에서 커넥션을 빌림 - 트랜잭션 경계가 다시 바깥으로 새어 나간 경우
+                cacheReadBorrowCounter.increment();
             }
-
-            // Circuit Breaker: 일정 시간 후 재시도 허용
-            if (lastFailure != null &&
-                    System.currentTimeMillis() - lastFailure > RECOVERY_TIME_MS) {
-                logger.info("Attempting to recover datasource: {}", key);
-                resetFailureCount(key);
-                return true;
-            }
-
-            return false;
         }
 
-        private void recordFailure(String key) {
-            failureCount.computeIfAbsent(key, k -> new AtomicLong(0)).incrementAndGet();
-            lastFailureTime.put(key, System.currentTimeMillis());
+        /**
+         * 커넥션 대여~반환을 하나의 호출로 보고 Circuit Breaker에 결과 기록
+         * - 연결 장애/타임아웃 계열 예외가 한 번이라도 발생하면 FAILURE (SQL 문법·제약 위반은 제외)
+         * - Statement 실행 시간 합계가 slow-call-duration 초과 시 SLOW (배치성 Replica 전용 작업은 지연 집계 및 EWMA에서 제외)
+         * - 대여~반환 시간(점유 시간)은 grade.db.replica.hold로 별도 기록
+         */
+        private Connection observeReplicaCall(String replica, DataSourceCircuitBreaker breaker,
+                Connection connection, long borrowedAt, boolean replicaOnly) {
+            AtomicBoolean failed = new AtomicBoolean();
+            long slowNanos = breaker.getSlowCallDuration().toNanos();
+            return ObservedConnection.wrap(connection,
+                    e -> {
+                        if (isAvailabilityFailure(e)) {
+                            failed.set(true);
+                        }
+                    },
+                    executionNanos -> {
+                        holdTimer(replica).record(System.nanoTime() - borrowedAt, TimeUnit.NANOSECONDS);
+                        if (failed.get()) {
+                            breaker.record(DataSourceCircuitBreaker.Outcome.FAILURE);
+                        } else if (!replicaOnly && executionNanos > slowNanos) {
+                            breaker.record(DataSourceCircuitBreaker.Outcome.SLOW);
+                        } else {
+                            breaker.record(DataSourceCircuitBreaker.Outcome.SUCCESS);
+                        }
+                        // 쿼리를 실행하지 않은 대여는 지연 표본이 아님
+                        if (!replicaOnly && executionNanos > 0) {
+                            replicaSelector.recordLatency(replica, executionNanos);
+                        }
+                    });
+        }
 
-            long count = failureCount.get(key).get();
-            logger.warn("Datasource {} failure count: {}", key, count);
+        private Timer holdTimer(String replica) {
+            return holdTimers.computeIfAbsent(replica, k -> Timer.builder("grade.db.replica.hold")
+                    .tag("replica", k)
+                    .register(meterRegistry));
+        }
 
-            if (count >= MAX_FAILURES) {
-                logger.error("Datasource {} has been marked as unavailable after {} failures", key, count);
+        private static boolean isAvailabilityFailure(SQLException e) {
+            if (e instanceof ConnectionConcurrencyLimiter.LimitExceededException) {
+                return false;
             }
+            String sqlState = e.getSQLState();
+            return e instanceof SQLTimeoutException
+                    || e instanceof SQLRecoverableException
+                    || e instanceof SQLNonTransientConnectionException
+                    || e instanceof SQLTransientConnectionException
+                    || (sqlState != null && sqlState.startsWith("08"));
         }
 
-        private void resetFailureCount(String key) {
-            AtomicLong failures = failureCount.get(key);
-            if (failures != null && failures.get() > 0) {
-                failures.set(0);
-                lastFailureTime.remove(key);
-                logger.info("Datasource {} has been recovered", key);
-            }
+        private boolean isDataSourceAvailable(String key) {
+            DataSourceCircuitBreaker breaker = circuitBreakers.get(key);
+            return breaker == null || breaker.isAvailable();
         }
     }
 }
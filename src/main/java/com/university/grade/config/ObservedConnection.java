@@ -0,0 +1,84 @@
+package com.university.grade.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * 커넥션과 그 커넥션에서 만든 Statement에서 발생한 SQLException을 관찰하고,
+ * 반환(close) 시점에 Statement 실행(execute*) 시간의 합계로 한 번만 콜백을 실행하는 프록시
+ * (Circuit Breaker 호출 결과·Replica 지연 집계용 - 커넥션을 점유한 채 하는 애플리케이션 작업은 제외)
+ */
+final class ObservedConnection {
+
+    private ObservedConnection() {
+    }
+
+    static Connection wrap(Connection target, Consumer<SQLException> onError, LongConsumer onClose) {
+        AtomicBoolean closed = new AtomicBoolean();
+        AtomicLong executionNanos = new AtomicLong();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                (proxy, method, args) -> {
+                    if ("equals".equals(method.getName())) {
+                        return proxy == args[0];
+                    }
+                    if ("hashCode".equals(method.getName())) {
+                        return System.identityHashCode(proxy);
+                    }
+                    try {
+                        Object result = method.invoke(target, args);
+                        return result instanceof Statement statement
+                                ? wrapStatement(statement, method.getReturnType(), onError, executionNanos)
+                                : result;
+                    } catch (InvocationTargetException e) {
+                        if (e.getCause() instanceof SQLException sqlException) {
+                            onError.accept(sqlException);
+                        }
+                        throw e.getCause();
+                    } finally {
+                        if ("close".equals(method.getName()) && closed.compareAndSet(false, true)) {
+                            onClose.accept(executionNanos.get());
+                        }
+                    }
+                });
+    }
+
+    private static Object wrapStatement(Statement target, Class<?> declaredType, Consumer<SQLException> onError,
+            AtomicLong executionNanos) {
+        Class<?> type = CallableStatement.class.isAssignableFrom(declaredType) ? CallableStatement.class
+                : PreparedStatement.class.isAssignableFrom(declaredType) ? PreparedStatement.class
+                : Statement.class;
+        return Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { type },
+                (proxy, method, args) -> {
+                    if ("equals".equals(method.getName())) {
+                        return proxy == args[0];
+                    }
+                    if ("hashCode".equals(method.getName())) {
+                        return System.identityHashCode(proxy);
+                    }
+                    boolean execute = method.getName().startsWith("execute");
+                    long start = execute ? System.nanoTime() : 0;
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        if (e.getCause() instanceof SQLException sqlException) {
+                            onError.accept(sqlException);
+                        }
+                        throw e.getCause();
+                    } finally {
+                        if (execute) {
+                            executionNanos.addAndGet(System.nanoTime() - start);
+                        }
+                    }
+                });
+    }
+}
@@ -0,0 +1,31 @@
+package com.university.grade.config;
+
+import java.util.function.Supplier;
+
+/**
+ * 배치성 작업(캐시 워밍업 등)이 Master로 Failover 되지 않도록 현재 스레드를 Replica 전용으로 표시
+ */
+public final class ReplicaOnlyRouting {
+    private static final ThreadLocal<Boolean> REPLICA_ONLY = new ThreadLocal<>();
+
+    private ReplicaOnlyRouting() {
+    }
+
+    public static <T> T call(Supplier<T> action) {
+        Boolean previous = REPLICA_ONLY.get();
+        REPLICA_ONLY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                REPLICA_ONLY.remove();
+            } else {
+                REPLICA_ONLY.set(previous);
+            }
+        }
+    }
+
+    public static boolean isActive() {
+        return Boolean.TRUE.equals(REPLICA_ONLY.get());
+    }
+}
@@ -0,0 +1,56 @@
+package com.university.grade.config;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 트랜잭션이 복제 지연 중인 Replica에서 읽었는지 표시
+ * 캐시는 이 표시가 있으면 결과를 저장하지 않음 (지연된 데이터가 TTL 동안 고정되는 것을 방지)
+ */
+public final class ReplicaReadContext {
+    private static final Object LAGGING_READ_KEY = new Object();
+    private static final ThreadLocal<Boolean> REPLAYED_LAGGING_READ = new ThreadLocal<>();
+
+    private ReplicaReadContext() {
+    }
+
+    static void markLaggingRead(String replica) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(LAGGING_READ_KEY)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(LAGGING_READ_KEY, replica);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(LAGGING_READ_KEY);
+            }
+        });
+    }
+
+    public static boolean isLaggingRead() {
+        return TransactionSynchronizationManager.hasResource(LAGGING_READ_KEY)
+                || Boolean.TRUE.equals(REPLAYED_LAGGING_READ.get());
+    }
+
+    /**
+     * 트랜잭션 종료 후 실행하는 작업(커넥션 반환 후 캐시 저장 등)에 트랜잭션 안에서 확인한 표시를 다시 적용
+     */
+    public static void replay(boolean laggingRead, Runnable action) {
+        if (!laggingRead) {
+            action.run();
+            return;
+        }
+        Boolean previous = REPLAYED_LAGGING_READ.get();
+        REPLAYED_LAGGING_READ.set(Boolean.TRUE);
+        try {
+            action.run();
+        } finally {
+            if (previous == null) {
+                REPLAYED_LAGGING_READ.remove();
+            } else {
+                REPLAYED_LAGGING_READ.set(previous);
+            }
+        }
+    }
+}
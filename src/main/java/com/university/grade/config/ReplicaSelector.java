@@ -0,0 +1,180 @@
+package com.university.grade.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * 가중치 기반 Read Replica 선택
+ * - ROUND_ROBIN: 가중치만큼 반복되는 스케줄을 순회
+ * - LEAST_OUTSTANDING: Hikari 풀의 (사용 중 + 대기) 커넥션 수 / 가중치가 가장 작은 Replica
+ * - EWMA_LATENCY: 관측된 쿼리 실행 시간의 EWMA / 가중치가 가장 작은 Replica
+ *   (오래 관측되지 않은 Replica는 값이 감쇠되어 다시 선택 기회를 얻음)
+ */
+public class ReplicaSelector {
+
+    public enum Strategy {
+        ROUND_ROBIN,
+        LEAST_OUTSTANDING,
+        EWMA_LATENCY
+    }
+
+    private static final double EWMA_ALPHA = 0.2;
+
+    private final Strategy strategy;
+    private final Map<String, Integer> weights;
+    private final Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+    private final String[] schedule;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, LatencyStats> latencies = new ConcurrentHashMap<>();
+    private final long decayNanos;
+
+    /**
+     * @param weights Replica lookup key별 가중치 (선언 순서 유지)
+     */
+    public ReplicaSelector(Strategy strategy, Map<String, Integer> weights, Map<String, DataSource> replicas,
+            Duration ewmaDecay, MeterRegistry meterRegistry) {
+        this.strategy = strategy;
+        this.weights = new LinkedHashMap<>(weights);
+        this.decayNanos = ewmaDecay.toNanos();
+        this.schedule = buildSchedule(this.weights);
+
+        for (Map.Entry<String, DataSource> entry : replicas.entrySet()) {
+            if (entry.getValue() instanceof HikariDataSource hikari) {
+                pools.put(entry.getKey(), hikari);
+            }
+            latencies.put(entry.getKey(), new LatencyStats(Timer.builder("grade.db.replica.latency")
+                    .tag("replica", entry.getKey())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)));
+        }
+    }
+
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * @return 사용 가능한 Replica 중 선택된 lookup key, 없으면 null
+     */
+    public String select(Predicate<String> available) {
+        return switch (strategy) {
+            case ROUND_ROBIN -> selectRoundRobin(available);
+            case LEAST_OUTSTANDING -> selectLowestScore(available, this::outstanding);
+            case EWMA_LATENCY -> selectLowestScore(available, this::decayedLatency);
+        };
+    }
+
+    /**
+     * 커넥션 한 번 대여 동안의 Statement 실행 시간 합계를 기록 (커넥션을 점유한 채 하는 애플리케이션 작업은 제외)
+     */
+    public void recordLatency(String replica, long elapsedNanos) {
+        LatencyStats stats = latencies.get(replica);
+        if (stats != null) {
+            stats.record(elapsedNanos);
+        }
+    }
+
+    private String selectRoundRobin(Predicate<String> available) {
+        if (schedule.length == 0) {
+            return null;
+        }
+        long start = sequence.getAndIncrement();
+        for (int i = 0; i < schedule.length; i++) {
+            String candidate = schedule[(int) Math.floorMod(start + i, (long) schedule.length)];
+            if (available.test(candidate)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private String selectLowestScore(Predicate<String> available, ScoreFunction score) {
+        String best = null;
+        double bestScore = Double.MAX_VALUE;
+        for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+            String replica = entry.getKey();
+            if (entry.getValue() <= 0 || !available.test(replica)) {
+                continue;
+            }
+            double weighted = score.of(replica) / entry.getValue();
+            if (weighted < bestScore) {
+                best = replica;
+                bestScore = weighted;
+            }
+        }
+        return best;
+    }
+
+    private double outstanding(String replica) {
+        // 풀은 첫 커넥션 요청 시 초기화되므로 매번 조회
+        HikariDataSource dataSource = pools.get(replica);
+        HikariPoolMXBean pool = dataSource != null ? dataSource.getHikariPoolMXBean() : null;
+        if (pool == null) {
+            return 0;
+        }
+        return pool.getActiveConnections() + pool.getThreadsAwaitingConnection();
+    }
+
+    private double decayedLatency(String replica) {
+        LatencyStats stats = latencies.get(replica);
+        return stats == null ? 0 : stats.decayed(System.nanoTime(), decayNanos);
+    }
+
+    private static String[] buildSchedule(Map<String, Integer> weights) {
+        // 가중치 2:1 -> [r1, r2, r1] 처럼 라운드마다 섞어 배치
+        List<String> result = new ArrayList<>();
+        int maxWeight = weights.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+        for (int round = 0; round < maxWeight; round++) {
+            for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+                if (entry.getValue() > round) {
+                    result.add(entry.getKey());
+                }
+            }
+        }
+        return result.toArray(new String[0]);
+    }
+
+    @FunctionalInterface
+    private interface ScoreFunction {
+        double of(String replica);
+    }
+
+    private static final class LatencyStats {
+        private final Timer timer;
+        private volatile double ewmaNanos;
+        private volatile long lastUpdateNanos = System.nanoTime();
+
+        LatencyStats(Timer timer) {
+            this.timer = timer;
+        }
+
+        void record(long elapsedNanos) {
+            timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            // 경합 시 일부 샘플 유실은 허용 (근사치)
+            double previous = ewmaNanos;
+            ewmaNanos = previous == 0 ? elapsedNanos : previous + EWMA_ALPHA * (elapsedNanos - previous);
+            lastUpdateNanos = System.nanoTime();
+        }
+
+        double decayed(long now, long decayNanos) {
+            if (decayNanos <= 0) {
+                return ewmaNanos;
+            }
+            long idle = now - lastUpdateNanos;
+            return ewmaNanos * Math.exp(-(double) idle / decayNanos);
+        }
+    }
+}
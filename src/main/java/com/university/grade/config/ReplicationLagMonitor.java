@@ -0,0 +1,145 @@
+package com.university.grade.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replica별 복제 지연 주기 측정
+ * - REPLICA_STATUS: SHOW REPLICA STATUS 의 Seconds_Behind_Source (REPLICATION CLIENT 권한 필요)
+ * - HEARTBEAT: Master가 주기적으로 갱신하는 heartbeat 테이블(pt-heartbeat 형식, ts 컬럼)과 현재 시각의 차이
+ * max-lag 초과 Replica는 읽기 풀에서 제외되고, cache-max-lag 초과 Replica에서 읽은 결과는 캐시하지 않음
+ */
+public class ReplicationLagMonitor implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(ReplicationLagMonitor.class);
+
+    public enum Source {
+        REPLICA_STATUS,
+        HEARTBEAT
+    }
+
+    private static final long UNKNOWN = Long.MAX_VALUE;
+
+    private final Map<String, DataSource> replicas;
+    private final Map<String, Long> lagMillis = new ConcurrentHashMap<>();
+    private final Source source;
+    private final String heartbeatTable;
+    private final long maxLagMillis;
+    private final long cacheMaxLagMillis;
+    private final ScheduledExecutorService scheduler;
+
+    public ReplicationLagMonitor(Map<String, DataSource> replicas, Source source, String heartbeatTable,
+            Duration maxLag, Duration cacheMaxLag, MeterRegistry meterRegistry) {
+        this.replicas = replicas;
+        this.source = source;
+        this.heartbeatTable = heartbeatTable;
+        this.maxLagMillis = maxLag.toMillis();
+        this.cacheMaxLagMillis = cacheMaxLag.toMillis();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replication-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        for (String replica : replicas.keySet()) {
+            // 첫 측정 전에는 지연 없음으로 간주 (기동 직후 모든 읽기가 Master로 몰리지 않도록)
+            lagMillis.put(replica, 0L);
+            Gauge.builder("grade.db.replica.lag", lagMillis, lags -> toSeconds(lags.get(replica)))
+                    .tag("replica", replica)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+    }
+
+    public void start(Duration interval) {
+        scheduler.scheduleWithFixedDelay(this::refresh, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+        logger.info("Replication lag monitor started: source={}, interval={}, maxLag={}ms, cacheMaxLag={}ms",
+                source, interval, maxLagMillis, cacheMaxLagMillis);
+    }
+
+    /**
+     * 읽기 풀에서 제외해야 하는 Replica인지
+     */
+    public boolean isExcluded(String replica) {
+        return lagMillis.getOrDefault(replica, 0L) > maxLagMillis;
+    }
+
+    /**
+     * 이 Replica에서 읽은 결과를 캐시하면 안 되는지
+     */
+    public boolean isTooStaleToCache(String replica) {
+        return lagMillis.getOrDefault(replica, 0L) > cacheMaxLagMillis;
+    }
+
+    void refresh() {
+        for (Map.Entry<String, DataSource> entry : replicas.entrySet()) {
+            String replica = entry.getKey();
+            try {
+                long lag = measure(entry.getValue());
+                Long previous = lagMillis.put(replica, lag);
+                if (lag > maxLagMillis && (previous == null || previous <= maxLagMillis)) {
+                    logger.warn("Replica {} lag {} exceeds threshold, removing from read pool", replica,
+                            lag == UNKNOWN ? "unknown" : lag + "ms");
+                } else if (lag <= maxLagMillis && previous != null && previous > maxLagMillis) {
+                    logger.info("Replica {} caught up (lag={}ms), returning to read pool", replica, lag);
+                }
+            } catch (SQLException e) {
+                // 측정 실패(권한/일시 장애)는 직전 값 유지 - 연결 장애는 Circuit Breaker가 처리
+                logger.warn("Replica {} lag check failed: {}", replica, e.getMessage());
+            } catch (RuntimeException e) {
+                logger.warn("Replica {} lag check failed: {}", replica, e.getMessage());
+            }
+        }
+    }
+
+    private long measure(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(5);
+            if (source == Source.HEARTBEAT) {
+                try (ResultSet rs = statement.executeQuery(
+                        "SELECT TIMESTAMPDIFF(MICROSECOND, MAX(ts), UTC_TIMESTAMP(6)) FROM " + heartbeatTable)) {
+                    if (rs.next()) {
+                        long micros = rs.getLong(1);
+                        return rs.wasNull() ? UNKNOWN : Math.max(0, micros / 1000);
+                    }
+                    return UNKNOWN;
+                }
+            }
+            try (ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+                if (!rs.next()) {
+                    // 복제 설정이 없는 인스턴스(로컬 개발 등)는 지연 없음
+                    return 0L;
+                }
+                long seconds = rs.getLong("Seconds_Behind_Source");
+                // NULL = 복제 스레드 중단
+                return rs.wasNull() ? UNKNOWN : seconds * 1000;
+            }
+        }
+    }
+
+    private static double toSeconds(Long millis) {
+        if (millis == null || millis == UNKNOWN) {
+            return Double.NaN;
+        }
+        return millis / 1000.0;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,61 @@
+package com.university.grade.controller;
+
+import com.university.grade.dto.GradeFinalizationRequest;
+import com.university.grade.dto.GradeFinalizationResponse;
+import com.university.grade.service.CacheWarmupService;
+import com.university.grade.service.GradeFinalizationService;
+import com.university.grade.service.GradeReleasePolicyService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+@RestController
+@RequestMapping("/api/v1/admin")
+@Validated
+public class GradeAdminController {
+
+    private final GradeReleasePolicyService gradeReleasePolicyService;
+    private final CacheWarmupService cacheWarmupService;
+    private final GradeFinalizationService gradeFinalizationService;
+
+    public GradeAdminController(GradeReleasePolicyService gradeReleasePolicyService,
+            CacheWarmupService cacheWarmupService, GradeFinalizationService gradeFinalizationService) {
+        this.gradeReleasePolicyService = gradeReleasePolicyService;
+        this.cacheWarmupService = cacheWarmupService;
+        this.gradeFinalizationService = gradeFinalizationService;
+    }
+
+    @PutMapping("/release-policy")
+    public ResponseEntity<Void> updateReleaseStatus(
+            @RequestParam @NotBlank @Size(max = 20) @Pattern(regexp = "^\\d{4}-[12]$", message = "Semester must be in format YYYY-1 or YYYY-2") String semester,
+            @RequestParam boolean released) {
+        gradeReleasePolicyService.updateReleaseStatus(semester, released);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/cache/warmup")
+    public ResponseEntity<Void> startWarmup(
+            @RequestParam @NotBlank @Size(max = 20) @Pattern(regexp = "^\\d{4}-[12]$", message = "Semester must be in format YYYY-1 or YYYY-2") String semester) {
+        boolean accepted = cacheWarmupService.startWarmup(semester);
+        return ResponseEntity.status(accepted ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT).build();
+    }
+
+    @PostMapping("/cache/invalidate")
+    public ResponseEntity<Void> invalidateSemester(
+            @RequestParam @NotBlank @Size(max = 20) @Pattern(regexp = "^\\d{4}-[12]$", message = "Semester must be in format YYYY-1 or YYYY-2") String semester) {
+        gradeFinalizationService.invalidateSemester(semester);
+        return ResponseEntity.accepted().build();
+    }
+
+    @PostMapping("/grades/finalize")
+    public ResponseEntity<GradeFinalizationResponse> finalizeGrades(
+            @Valid @RequestBody GradeFinalizationRequest request) {
+        return ResponseEntity.ok(gradeFinalizationService.finalizeGrades(request));
+    }
+}
@@ -1,9 +1,15 @@
 package com.university.grade.controller;
 
-import com.university.grade.dto.GradeDetailResponse;
-import com.university.grade.dto.GradeSummaryResponse;
-import com.university.grade.service.GradeInquiryService;
+import com.university.grade.dto.CacheResult;
+import com.university.grade.dto.GradeDashboardResponse;
+import com.university.grade.dto.GradeTranscriptResponse;
+import com.university.grade.dto.WirePayload;
+import com.university.grade.service.AsyncGradeInquiryService;
+import com.university.grade.util.GzipUtil;
 import com.university.grade.util.SecurityUtil;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
@@ -13,22 +19,28 @@ import org.springframework.web.bind.annotation.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
-import java.util.List;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/v1/grades")
 @Validated
 public class GradeInquiryController {
+    static final String STALE_HEADER = "X-Cache-Stale";
+    private static final String GZIP_ETAG_SUFFIX = "-gzip";
 
-    private final GradeInquiryService gradeInquiryService;
+    private final AsyncGradeInquiryService asyncGradeInquiryService;
 
-    public GradeInquiryController(GradeInquiryService gradeInquiryService) {
-        this.gradeInquiryService = gradeInquiryService;
+    public GradeInquiryController(AsyncGradeInquiryService asyncGradeInquiryService) {
+        this.asyncGradeInquiryService = asyncGradeInquiryService;
     }
 
     @GetMapping("/summary")
-    public ResponseEntity<GradeSummaryResponse> getGradeSummary(
+    public CompletableFuture<ResponseEntity<?>> getGradeSummary(
             @RequestParam @NotBlank @Size(max = 20) @Pattern(regexp = "^\\d{4}-[12]$", message = "Semester must be in format YYYY-1 or YYYY-2") String semester,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             Authentication authentication) {
         Long studentId = SecurityUtil.extractStudentIdFromAuthentication(authentication);
         if (studentId == null || studentId <= 0) {
@@ -36,13 +48,55 @@ public class GradeInquiryController {
             };
         }
 
-        GradeSummaryResponse response = gradeInquiryService.getGradeSummary(studentId, semester);
-        return ResponseEntity.ok(response);
+        // Servlet thread is released while Redis (and, on a miss, the DB) is in flight
+        if (asyncGradeInquiryService.isWirePassthrough()) {
+            return asyncGradeInquiryService.getGradeSummaryWire(studentId, semester, parseIfNoneMatch(ifNoneMatch))
+                    .thenApply(result -> toWireResponse(result, acceptEncoding));
+        }
+        return asyncGradeInquiryService.getGradeSummary(studentId, semester).thenApply(GradeInquiryController::toResponse);
     }
 
     @GetMapping("/list")
-    public ResponseEntity<List<GradeDetailResponse>> getGradeList(
+    public CompletableFuture<ResponseEntity<?>> getGradeList(
             @RequestParam @NotBlank @Size(max = 20) @Pattern(regexp = "^\\d{4}-[12]$", message = "Semester must be in format YYYY-1 or YYYY-2") String semester,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            Authentication authentication) {
+        Long studentId = SecurityUtil.extractStudentIdFromAuthentication(authentication);
+        if (studentId == null || studentId <= 0) {
+            throw new AuthenticationException("Invalid authentication") {
+            };
+        }
+
+        if (asyncGradeInquiryService.isWirePassthrough()) {
+            return asyncGradeInquiryService.getGradeListWire(studentId, semester, parseIfNoneMatch(ifNoneMatch))
+                    .thenApply(result -> toWireResponse(result, acceptEncoding));
+        }
+        return asyncGradeInquiryService.getGradeList(studentId, semester).thenApply(GradeInquiryController::toResponse);
+    }
+
+    /**
+     * 요약 + 성적 목록을 한 번의 요청으로 조회 (정책/요약/목록 키를 단일 MGET으로 읽음)
+     */
+    @GetMapping("/dashboard")
+    public CompletableFuture<ResponseEntity<GradeDashboardResponse>> getGradeDashboard(
+            @RequestParam @NotBlank @Size(max = 20) @Pattern(regexp = "^\\d{4}-[12]$", message = "Semester must be in format YYYY-1 or YYYY-2") String semester,
+            Authentication authentication) {
+        Long studentId = SecurityUtil.extractStudentIdFromAuthentication(authentication);
+        if (studentId == null || studentId <= 0) {
+            throw new AuthenticationException("Invalid authentication") {
+            };
+        }
+
+        return asyncGradeInquiryService.getGradeDashboard(studentId, semester).thenApply(GradeInquiryController::toResponse);
+    }
+
+    /**
+     * 공개된 전체 학기 성적표 조회 (최근 학기부터 최대 app.transcript.max-semesters 학기)
+     */
+    @GetMapping("/transcript")
+    public CompletableFuture<ResponseEntity<GradeTranscriptResponse>> getGradeTranscript(
+            @RequestParam(defaultValue = "false") boolean includeGrades,
             Authentication authentication) {
         Long studentId = SecurityUtil.extractStudentIdFromAuthentication(authentication);
         if (studentId == null || studentId <= 0) {
@@ -50,7 +104,67 @@ public class GradeInquiryController {
             };
         }
 
-        List<GradeDetailResponse> response = gradeInquiryService.getGradeList(studentId, semester);
-        return ResponseEntity.ok(response);
+        return asyncGradeInquiryService.getGradeTranscript(studentId, includeGrades).thenApply(GradeInquiryController::toResponse);
+    }
+
+    /**
+     * 캐시된 gzip JSON을 그대로 응답 (gzip 미지원 클라이언트는 해제만 하고 Jackson은 거치지 않음, ETag는 인코딩별로 구분)
+     */
+    private static ResponseEntity<byte[]> toWireResponse(CacheResult<WirePayload> result, String acceptEncoding) {
+        WirePayload payload = result.value();
+        boolean gzip = GzipUtil.acceptsGzip(acceptEncoding);
+        ResponseEntity.BodyBuilder builder = ResponseEntity
+                .status(payload.isNotModified() ? HttpStatus.NOT_MODIFIED : HttpStatus.OK)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (payload.version() != 0) {
+            builder.eTag("\"" + Long.toHexString(payload.version()) + (gzip ? GZIP_ETAG_SUFFIX : "") + "\"");
+        }
+        if (result.stale()) {
+            builder.header(STALE_HEADER, "true");
+        }
+        if (payload.isNotModified()) {
+            return builder.build();
+        }
+        builder.contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(payload.body());
+        }
+        return builder.body(GzipUtil.gunzip(payload.body()));
+    }
+
+    /**
+     * If-None-Match의 콘텐츠 버전 추출 (약한/gzip 태그도 같은 버전, 그 외 태그는 무시하고 전체 응답)
+     */
+    static Set<Long> parseIfNoneMatch(String ifNoneMatch) {
+        Set<Long> versions = new HashSet<>();
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return versions;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            String value = tag.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.length() < 2 || value.charAt(0) != '"' || value.charAt(value.length() - 1) != '"') {
+                continue;
+            }
+            value = value.substring(1, value.length() - 1);
+            if (value.endsWith(GZIP_ETAG_SUFFIX)) {
+                value = value.substring(0, value.length() - GZIP_ETAG_SUFFIX.length());
+            }
+            try {
+                versions.add(Long.parseUnsignedLong(value, 16));
+            } catch (NumberFormatException e) {
+                // 이 서비스가 발급하지 않은 태그
+            }
+        }
+        return versions;
+    }
+
+    private static <T> ResponseEntity<T> toResponse(CacheResult<T> result) {
+        if (result.stale()) {
+            return ResponseEntity.ok().header(STALE_HEADER, "true").body(result.value());
+        }
+        return ResponseEntity.ok(result.value());
     }
 }
@@ -0,0 +1,29 @@
+package com.university.grade.dto;
+
+/**
+ * A response body together with whether it was served past its logical cache expiry
+ * (stale-while-revalidate or stale-if-error), and whether the caller should schedule a background
+ * refresh of the entry (stale, or picked for early refresh).
+ * Summaries the source did not have are cached as well and come back with a null value.
+ */
+public record CacheResult<T>(T value, boolean stale, boolean refreshDue) {
+
+    public CacheResult(T value, boolean stale) {
+        this(value, stale, stale);
+    }
+
+    public static <T> CacheResult<T> fresh(T value) {
+        return new CacheResult<>(value, false, false);
+    }
+
+    public static <T> CacheResult<T> stale(T value) {
+        return new CacheResult<>(value, true, true);
+    }
+
+    /**
+     * Fresh, but due for an early refresh.
+     */
+    public static <T> CacheResult<T> early(T value) {
+        return new CacheResult<>(value, false, true);
+    }
+}
@@ -0,0 +1,32 @@
+package com.university.grade.dto;
+
+import java.util.List;
+
+public class GradeDashboardResponse {
+    private GradeSummaryResponse summary;
+    private List<GradeDetailResponse> grades;
+
+    public GradeDashboardResponse() {
+    }
+
+    public GradeDashboardResponse(GradeSummaryResponse summary, List<GradeDetailResponse> grades) {
+        this.summary = summary;
+        this.grades = grades;
+    }
+
+    public GradeSummaryResponse getSummary() {
+        return summary;
+    }
+
+    public void setSummary(GradeSummaryResponse summary) {
+        this.summary = summary;
+    }
+
+    public List<GradeDetailResponse> getGrades() {
+        return grades;
+    }
+
+    public void setGrades(List<GradeDetailResponse> grades) {
+        this.grades = grades;
+    }
+}
@@ -0,0 +1,89 @@
+package com.university.grade.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public class GradeFinalizationRequest {
+    @NotBlank
+    @Pattern(regexp = "^\\d{4}-[12]$", message = "Semester must be in format YYYY-1 or YYYY-2")
+    private String semester;
+
+    @NotEmpty
+    @Size(max = 5000)
+    private List<@Valid @NotNull Grade> grades;
+
+    public GradeFinalizationRequest() {
+    }
+
+    public String getSemester() {
+        return semester;
+    }
+
+    public void setSemester(String semester) {
+        this.semester = semester;
+    }
+
+    public List<Grade> getGrades() {
+        return grades;
+    }
+
+    public void setGrades(List<Grade> grades) {
+        this.grades = grades;
+    }
+
+    public static class Grade {
+        @NotNull
+        private Long enrollmentId;
+
+        @NotNull
+        @DecimalMin("0.00")
+        @DecimalMax("100.00")
+        private BigDecimal score;
+
+        @NotBlank
+        @Pattern(regexp = "^(A\\+|A0|B\\+|B0|C\\+|C0|D\\+|D0|F|P)$", message = "Invalid grade letter")
+        private String gradeLetter;
+
+        public Grade() {
+        }
+
+        public Grade(Long enrollmentId, BigDecimal score, String gradeLetter) {
+            this.enrollmentId = enrollmentId;
+            this.score = score;
+            this.gradeLetter = gradeLetter;
+        }
+
+        public Long getEnrollmentId() {
+            return enrollmentId;
+        }
+
+        public void setEnrollmentId(Long enrollmentId) {
+            this.enrollmentId = enrollmentId;
+        }
+
+        public BigDecimal getScore() {
+            return score;
+        }
+
+        public void setScore(BigDecimal score) {
+            this.score = score;
+        }
+
+        public String getGradeLetter() {
+            return gradeLetter;
+        }
+
+        public void setGradeLetter(String gradeLetter) {
+            this.gradeLetter = gradeLetter;
+        }
+    }
+}
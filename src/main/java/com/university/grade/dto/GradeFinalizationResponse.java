@@ -0,0 +1,40 @@
+package com.university.grade.dto;
+
+public class GradeFinalizationResponse {
+    private String semester;
+    private int finalizedCount;
+    private int affectedStudents;
+
+    public GradeFinalizationResponse() {
+    }
+
+    public GradeFinalizationResponse(String semester, int finalizedCount, int affectedStudents) {
+        this.semester = semester;
+        this.finalizedCount = finalizedCount;
+        this.affectedStudents = affectedStudents;
+    }
+
+    public String getSemester() {
+        return semester;
+    }
+
+    public void setSemester(String semester) {
+        this.semester = semester;
+    }
+
+    public int getFinalizedCount() {
+        return finalizedCount;
+    }
+
+    public void setFinalizedCount(int finalizedCount) {
+        this.finalizedCount = finalizedCount;
+    }
+
+    public int getAffectedStudents() {
+        return affectedStudents;
+    }
+
+    public void setAffectedStudents(int affectedStudents) {
+        this.affectedStudents = affectedStudents;
+    }
+}
@@ -0,0 +1,32 @@
+package com.university.grade.dto;
+
+import java.util.List;
+
+public class GradeTranscriptResponse {
+    private List<GradeDashboardResponse> semesters;
+    private boolean hasMore;
+
+    public GradeTranscriptResponse() {
+    }
+
+    public GradeTranscriptResponse(List<GradeDashboardResponse> semesters, boolean hasMore) {
+        this.semesters = semesters;
+        this.hasMore = hasMore;
+    }
+
+    public List<GradeDashboardResponse> getSemesters() {
+        return semesters;
+    }
+
+    public void setSemesters(List<GradeDashboardResponse> semesters) {
+        this.semesters = semesters;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
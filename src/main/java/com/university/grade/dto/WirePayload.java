@@ -0,0 +1,17 @@
+package com.university.grade.dto;
+
+/**
+ * Cached response in its wire form: gzip-compressed JSON and its content version (0 for entries
+ * written before versioning). A null body means the client's copy, identified by the version, is
+ * still current.
+ */
+public record WirePayload(byte[] body, long version) {
+
+    public static WirePayload notModified(long version) {
+        return new WirePayload(null, version);
+    }
+
+    public boolean isNotModified() {
+        return body == null;
+    }
+}
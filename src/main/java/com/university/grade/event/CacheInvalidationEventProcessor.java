@@ -0,0 +1,170 @@
+package com.university.grade.event;
+
+import com.university.grade.cache.GradeCacheInvalidator;
+import com.university.grade.cache.GradeCacheInvalidator.StudentSemester;
+import com.university.grade.repository.command.CacheInvalidationOutboxRepository;
+import com.university.grade.repository.command.CacheInvalidationOutboxRepository.OutboxEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Drains CACHE_INVALIDATION_OUTBOX into Redis. Each batch is claimed with FOR UPDATE SKIP LOCKED,
+ * collapsed to distinct keys, unlinked in one pipeline and deleted in the same Master transaction;
+ * a Redis failure rolls the claim back so the rows are retried (at-least-once, evictions are
+ * idempotent). Polls on a fixed interval, and writers call {@link #wakeUp()} after commit so the
+ * common case does not wait for the next poll.
+ */
+@Component
+public class CacheInvalidationEventProcessor {
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationEventProcessor.class);
+
+    private final CacheInvalidationOutboxRepository outboxRepository;
+    private final GradeCacheInvalidator cacheInvalidator;
+    private final TransactionTemplate masterTransaction;
+    private final boolean enabled;
+    private final Duration pollInterval;
+    private final int batchSize;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicBoolean drainQueued = new AtomicBoolean();
+    private final Counter processedCounter;
+    private final Counter failureCounter;
+    private final Timer batchTimer;
+
+    private volatile double lagSeconds;
+
+    public CacheInvalidationEventProcessor(
+            CacheInvalidationOutboxRepository outboxRepository,
+            GradeCacheInvalidator cacheInvalidator,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.event-processor.enabled:true}") boolean enabled,
+            @Value("${app.event-processor.poll-interval:1s}") Duration pollInterval,
+            @Value("${app.event-processor.batch-size:500}") int batchSize) {
+        this.outboxRepository = outboxRepository;
+        this.cacheInvalidator = cacheInvalidator;
+        this.masterTransaction = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.pollInterval = pollInterval;
+        this.batchSize = batchSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-event-processor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.processedCounter = Counter.builder("grade.outbox.processed")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("grade.outbox.failures")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("grade.outbox.batch.duration")
+                .register(meterRegistry);
+        Gauge.builder("grade.outbox.lag", this, processor -> processor.lagSeconds)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+
+        logger.info("CacheInvalidationEventProcessor initialized with enabled={}, pollInterval={}, batchSize={}",
+                enabled, pollInterval, batchSize);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        scheduler.scheduleWithFixedDelay(this::drain, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Requests an immediate drain; coalesces with one already queued.
+     */
+    public void wakeUp() {
+        if (!enabled || !drainQueued.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            scheduler.execute(() -> {
+                drainQueued.set(false);
+                drain();
+            });
+        } catch (RejectedExecutionException e) {
+            // Shutting down
+            drainQueued.set(false);
+        }
+    }
+
+    /**
+     * Processes batches until the outbox is empty or a batch fails.
+     */
+    public void drain() {
+        try {
+            int processed;
+            do {
+                processed = batchTimer.record(() -> masterTransaction.execute(status -> processBatch()));
+            } while (processed == batchSize);
+        } catch (RuntimeException e) {
+            // Claimed rows were rolled back and are retried on the next poll
+            failureCounter.increment();
+            logger.warn("[Redis][Outbox] Invalidation batch failed, will retry: {}", e.getMessage());
+        }
+    }
+
+    private int processBatch() {
+        List<OutboxEvent> events = outboxRepository.claimBatch(batchSize);
+        if (events.isEmpty()) {
+            lagSeconds = 0;
+            return 0;
+        }
+
+        Set<StudentSemester> students = new LinkedHashSet<>();
+        Set<String> policySemesters = new LinkedHashSet<>();
+        Set<String> retiredSemesters = new LinkedHashSet<>();
+        long maxAgeMicros = 0;
+        for (OutboxEvent event : events) {
+            maxAgeMicros = Math.max(maxAgeMicros, event.ageMicros());
+            switch (event.eventType()) {
+                case CacheInvalidationOutboxRepository.GRADE_CHANGED ->
+                        students.add(new StudentSemester(event.studentId(), event.semester()));
+                case CacheInvalidationOutboxRepository.RELEASE_POLICY_CHANGED ->
+                        policySemesters.add(event.semester());
+                case CacheInvalidationOutboxRepository.SEMESTER_CHANGED ->
+                        retiredSemesters.add(event.semester());
+                default -> logger.warn("Unknown outbox event type dropped: outboxId={}, type={}",
+                        event.outboxId(), event.eventType());
+            }
+        }
+        lagSeconds = maxAgeMicros / 1_000_000.0;
+
+        cacheInvalidator.invalidate(students, policySemesters, retiredSemesters);
+        outboxRepository.deleteByIds(events.stream().map(OutboxEvent::outboxId).toList());
+        processedCounter.increment(events.size());
+
+        logger.debug("Outbox batch processed: events={}, students={}, policies={}, semesters={}, lag={}s",
+                events.size(), students.size(), policySemesters.size(), retiredSemesters.size(), lagSeconds);
+        return events.size();
+    }
+}
@@ -15,12 +15,25 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
         private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+        @ExceptionHandler(GradeNotReleasedException.class)
+        public ResponseEntity<ErrorResponse> handleGradeNotReleasedException(GradeNotReleasedException e) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                                .body(new ErrorResponse("FORBIDDEN", e.getMessage()));
+        }
+
+        @ExceptionHandler(GradeSummaryNotFoundException.class)
+        public ResponseEntity<ErrorResponse> handleGradeSummaryNotFoundException(GradeSummaryNotFoundException e) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                                .body(new ErrorResponse("BAD_REQUEST", e.getMessage()));
+        }
+
         @ExceptionHandler(IllegalStateException.class)
         public ResponseEntity<ErrorResponse> handleIllegalStateException(IllegalStateException e) {
                 logger.debug("IllegalStateException: {}", e.getMessage());
@@ -79,6 +92,13 @@ public class GlobalExceptionHandler {
                                 .body(new ErrorResponse("BAD_REQUEST", message));
         }
 
+        @ExceptionHandler(RejectedExecutionException.class)
+        public ResponseEntity<ErrorResponse> handleRejectedExecutionException(RejectedExecutionException e) {
+                logger.warn("Loader pool saturated: {}", e.getMessage());
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .body(new ErrorResponse("SERVICE_BUSY", "Too many requests, please retry shortly"));
+        }
+
         @ExceptionHandler(Exception.class)
         public ResponseEntity<ErrorResponse> handleException(Exception e) {
                 logger.error("Unexpected error", e);
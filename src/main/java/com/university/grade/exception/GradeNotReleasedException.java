@@ -0,0 +1,16 @@
+package com.university.grade.exception;
+
+/**
+ * Inquiry for a semester whose grades are not released (403). Before a release most traffic is
+ * students polling for exactly this answer, so one shared instance is thrown; it has no stack
+ * trace and no suppressed exceptions, so nothing from one request can reach another.
+ */
+public final class GradeNotReleasedException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public static final GradeNotReleasedException INSTANCE = new GradeNotReleasedException();
+
+    private GradeNotReleasedException() {
+        super("성적 공개 기간이 아닙니다.", null, false, false);
+    }
+}
@@ -0,0 +1,16 @@
+package com.university.grade.exception;
+
+/**
+ * Inquiry for a semester in which the student has no grade summary (400). Answered from a cached
+ * absence for repeated requests, so like {@link GradeNotReleasedException} it is a shared instance
+ * without a stack trace or suppressed exceptions.
+ */
+public final class GradeSummaryNotFoundException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public static final GradeSummaryNotFoundException INSTANCE = new GradeSummaryNotFoundException();
+
+    private GradeSummaryNotFoundException() {
+        super("성적 요약 정보를 찾을 수 없습니다.", null, false, false);
+    }
+}
@@ -0,0 +1,23 @@
+package com.university.grade.mapper;
+
+import com.university.grade.dto.GradeSummaryResponse;
+import com.university.grade.repository.projection.GradeSummaryProjection;
+import org.springframework.stereotype.Component;
+
+@Component
+public class GradeSummaryMapper {
+
+    public GradeSummaryResponse toDto(GradeSummaryProjection projection) {
+        if (projection == null) {
+            return null;
+        }
+
+        GradeSummaryResponse response = new GradeSummaryResponse();
+        response.setStudentId(projection.getStudentId());
+        response.setSemester(projection.getSemester());
+        response.setGpa(projection.getGpa());
+        response.setTotalCredits(projection.getTotalCredits());
+        response.setUpdatedAt(projection.getUpdatedAt());
+        return response;
+    }
+}
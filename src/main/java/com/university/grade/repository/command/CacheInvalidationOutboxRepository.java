@@ -0,0 +1,89 @@
+package com.university.grade.repository.command;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * CACHE_INVALIDATION_OUTBOX access. Rows are appended inside the transaction that changes the
+ * cached data and deleted by the event processor once the matching Redis keys are gone, so a
+ * committed change always leaves an invalidation behind. Master only.
+ */
+@Repository
+public class CacheInvalidationOutboxRepository {
+
+    public static final String GRADE_CHANGED = "GRADE_CHANGED";
+    public static final String RELEASE_POLICY_CHANGED = "RELEASE_POLICY_CHANGED";
+    public static final String SEMESTER_CHANGED = "SEMESTER_CHANGED";
+
+    /**
+     * @param studentId null for semester-wide events (release policy, semester)
+     * @param ageMicros time since the row was written, measured by the database clock
+     */
+    public record OutboxEvent(long outboxId, String eventType, Long studentId, String semester, long ageMicros) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public CacheInvalidationOutboxRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    public void appendGradeChanges(String semester, Collection<Long> studentIds, int batchSize) {
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO CACHE_INVALIDATION_OUTBOX (event_type, student_id, semester) VALUES (?, ?, ?)",
+            List.copyOf(studentIds), batchSize, (ps, studentId) -> {
+                ps.setString(1, GRADE_CHANGED);
+                ps.setLong(2, studentId);
+                ps.setString(3, semester);
+            });
+    }
+
+    public void appendReleasePolicyChange(String semester) {
+        jdbcTemplate.update(
+            "INSERT INTO CACHE_INVALIDATION_OUTBOX (event_type, student_id, semester) VALUES (?, NULL, ?)",
+            RELEASE_POLICY_CHANGED, semester);
+    }
+
+    /**
+     * Retires every cached summary/list entry of the semester, for changes too wide to list per student.
+     */
+    public void appendSemesterChange(String semester) {
+        jdbcTemplate.update(
+            "INSERT INTO CACHE_INVALIDATION_OUTBOX (event_type, student_id, semester) VALUES (?, NULL, ?)",
+            SEMESTER_CHANGED, semester);
+    }
+
+    /**
+     * Locks the oldest pending rows; rows locked by another pod are skipped rather than waited on.
+     * Must run inside a read-write transaction that deletes the rows once processed.
+     */
+    public List<OutboxEvent> claimBatch(int limit) {
+        return jdbcTemplate.query(
+            "SELECT outbox_id, event_type, student_id, semester, " +
+            "  TIMESTAMPDIFF(MICROSECOND, created_at, CURRENT_TIMESTAMP(3)) AS age_micros " +
+            "FROM CACHE_INVALIDATION_OUTBOX " +
+            "ORDER BY outbox_id " +
+            "LIMIT ? " +
+            "FOR UPDATE SKIP LOCKED",
+            (rs, rowNum) -> new OutboxEvent(
+                rs.getLong("outbox_id"),
+                rs.getString("event_type"),
+                rs.getObject("student_id", Long.class),
+                rs.getString("semester"),
+                rs.getLong("age_micros")),
+            limit);
+    }
+
+    public int deleteByIds(Collection<Long> outboxIds) {
+        return namedParameterJdbcTemplate.update(
+            "DELETE FROM CACHE_INVALIDATION_OUTBOX WHERE outbox_id IN (:outboxIds)",
+            new MapSqlParameterSource("outboxIds", outboxIds));
+    }
+}
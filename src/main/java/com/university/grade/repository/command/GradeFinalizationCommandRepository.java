@@ -0,0 +1,105 @@
+package com.university.grade.repository.command;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plain JDBC writes for grade finalization: the GRADES upsert goes out as JDBC batches
+ * (rewritten into multi-row statements by the driver with rewriteBatchedStatements=true),
+ * and GRADE_SUMMARY is recomputed set-based in a single INSERT ... SELECT.
+ * Callers must hold a read-write transaction so everything runs on the Master.
+ */
+@Repository
+public class GradeFinalizationCommandRepository {
+
+    // 4.5 scale; P (pass) and unknown letters carry no grade points and are left out of the GPA
+    private static final String GRADE_POINTS =
+        "CASE g.grade_letter " +
+        "  WHEN 'A+' THEN 4.5 WHEN 'A0' THEN 4.0 " +
+        "  WHEN 'B+' THEN 3.5 WHEN 'B0' THEN 3.0 " +
+        "  WHEN 'C+' THEN 2.5 WHEN 'C0' THEN 2.0 " +
+        "  WHEN 'D+' THEN 1.5 WHEN 'D0' THEN 1.0 " +
+        "  WHEN 'F' THEN 0.0 " +
+        "END";
+
+    private static final String UPSERT_FINALIZED_GRADE =
+        "INSERT INTO GRADES (enrollment_id, score, grade_letter, is_finalized, finalized_at) " +
+        "VALUES (?, ?, ?, TRUE, CURRENT_TIMESTAMP) AS new " +
+        "ON DUPLICATE KEY UPDATE " +
+        "  score = new.score, " +
+        "  grade_letter = new.grade_letter, " +
+        "  is_finalized = TRUE, " +
+        "  finalized_at = CURRENT_TIMESTAMP";
+
+    private static final String RECOMPUTE_SUMMARIES =
+        "INSERT INTO GRADE_SUMMARY (student_id, semester, gpa, total_credits, updated_at) " +
+        "SELECT * FROM (" +
+        "  SELECT " +
+        "    e.student_id, " +
+        "    e.semester, " +
+        "    COALESCE(ROUND(SUM((" + GRADE_POINTS + ") * c.credit) " +
+        "      / NULLIF(SUM(CASE WHEN (" + GRADE_POINTS + ") IS NOT NULL THEN c.credit END), 0), 2), 0) AS gpa, " +
+        "    SUM(c.credit) AS total_credits, " +
+        "    CURRENT_TIMESTAMP AS updated_at " +
+        "  FROM ENROLLMENTS e " +
+        "  INNER JOIN COURSES c ON e.course_id = c.course_id " +
+        "  INNER JOIN GRADES g ON e.enrollment_id = g.enrollment_id AND g.is_finalized = TRUE " +
+        "  WHERE e.semester = :semester AND e.student_id IN (:studentIds) " +
+        "  GROUP BY e.student_id, e.semester" +
+        ") AS new " +
+        "ON DUPLICATE KEY UPDATE " +
+        "  gpa = new.gpa, " +
+        "  total_credits = new.total_credits, " +
+        "  updated_at = new.updated_at";
+
+    public record FinalizedGrade(Long enrollmentId, BigDecimal score, String gradeLetter) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public GradeFinalizationCommandRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    /**
+     * @return student_id by enrollment_id, for the given enrolments that belong to the semester
+     */
+    public Map<Long, Long> findStudentIdsByEnrollmentIds(String semester, Collection<Long> enrollmentIds) {
+        Map<Long, Long> studentIds = new HashMap<>();
+        namedParameterJdbcTemplate.query(
+            "SELECT enrollment_id, student_id " +
+            "FROM ENROLLMENTS " +
+            "WHERE semester = :semester AND enrollment_id IN (:enrollmentIds)",
+            new MapSqlParameterSource()
+                .addValue("semester", semester)
+                .addValue("enrollmentIds", enrollmentIds),
+            rs -> {
+                studentIds.put(rs.getLong("enrollment_id"), rs.getLong("student_id"));
+            });
+        return studentIds;
+    }
+
+    public void upsertFinalizedGrades(List<FinalizedGrade> grades, int batchSize) {
+        jdbcTemplate.batchUpdate(UPSERT_FINALIZED_GRADE, grades, batchSize, (ps, grade) -> {
+            ps.setLong(1, grade.enrollmentId());
+            ps.setBigDecimal(2, grade.score());
+            ps.setString(3, grade.gradeLetter());
+        });
+    }
+
+    public int recomputeSummaries(String semester, Collection<Long> studentIds) {
+        return namedParameterJdbcTemplate.update(RECOMPUTE_SUMMARIES, new MapSqlParameterSource()
+            .addValue("semester", semester)
+            .addValue("studentIds", studentIds));
+    }
+}
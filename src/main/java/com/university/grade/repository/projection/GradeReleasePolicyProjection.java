@@ -1,5 +1,8 @@
 package com.university.grade.repository.projection;
 
+import java.time.LocalDateTime;
+
 public interface GradeReleasePolicyProjection {
     Boolean getIsReleased();
+    LocalDateTime getReleaseAt();
 }
@@ -0,0 +1,9 @@
+package com.university.grade.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface GradeReleaseStatusProjection {
+    String getSemester();
+    Boolean getIsReleased();
+    LocalDateTime getReleaseAt();
+}
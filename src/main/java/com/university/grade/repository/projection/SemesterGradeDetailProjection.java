@@ -0,0 +1,5 @@
+package com.university.grade.repository.projection;
+
+public interface SemesterGradeDetailProjection extends GradeDetailProjection {
+    String getSemester();
+}
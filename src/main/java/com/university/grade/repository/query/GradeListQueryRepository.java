@@ -2,13 +2,25 @@ package com.university.grade.repository.query;
 
 import com.university.grade.entity.Enrollment;
 import com.university.grade.repository.projection.GradeDetailProjection;
+import com.university.grade.repository.projection.SemesterGradeDetailProjection;
+import com.university.grade.repository.projection.StudentGradeDetailProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface GradeListQueryRepository extends Repository<Enrollment, Long> {
+
+    /**
+     * MySQL Connector/J streams row by row (forward-only cursor) only with fetchSize = Integer.MIN_VALUE
+     */
+    String STREAMING_FETCH_SIZE = "" + Integer.MIN_VALUE;
     
     @Query(value = 
         "SELECT " +
@@ -30,4 +42,53 @@ public interface GradeListQueryRepository extends Repository<Enrollment, Long> {
         @Param("studentId") Long studentId, 
         @Param("semester") String semester
     );
+
+    @Query(value = 
+        "SELECT " +
+        "  e.semester, " +
+        "  e.enrollment_id as enrollmentId, " +
+        "  c.course_code as courseCode, " +
+        "  c.course_name as courseName, " +
+        "  c.credit, " +
+        "  g.score, " +
+        "  g.grade_letter as gradeLetter, " +
+        "  g.is_finalized as isFinalized, " +
+        "  g.finalized_at as finalizedAt " +
+        "FROM ENROLLMENTS e " +
+        "INNER JOIN COURSES c ON e.course_id = c.course_id " +
+        "LEFT JOIN GRADES g ON e.enrollment_id = g.enrollment_id AND g.is_finalized = TRUE " +
+        "WHERE e.student_id = :studentId AND e.semester IN (:semesters) " +
+        "ORDER BY e.semester, c.course_code",
+        nativeQuery = true)
+    List<SemesterGradeDetailProjection> findGradeDetailsByStudentIdAndSemesters(
+        @Param("studentId") Long studentId,
+        @Param("semesters") Collection<String> semesters
+    );
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAMING_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = 
+        "SELECT " +
+        "  e.student_id as studentId, " +
+        "  e.enrollment_id as enrollmentId, " +
+        "  c.course_code as courseCode, " +
+        "  c.course_name as courseName, " +
+        "  c.credit, " +
+        "  g.score, " +
+        "  g.grade_letter as gradeLetter, " +
+        "  g.is_finalized as isFinalized, " +
+        "  g.finalized_at as finalizedAt " +
+        "FROM ENROLLMENTS e " +
+        "INNER JOIN COURSES c ON e.course_id = c.course_id " +
+        "LEFT JOIN GRADES g ON e.enrollment_id = g.enrollment_id AND g.is_finalized = TRUE " +
+        "WHERE e.semester = :semester AND e.student_id > :afterStudentId AND e.student_id <= :toStudentId " +
+        "ORDER BY e.student_id, c.course_code",
+        nativeQuery = true)
+    Stream<StudentGradeDetailProjection> streamGradeDetailsBySemesterAndStudentIdRange(
+        @Param("semester") String semester,
+        @Param("afterStudentId") Long afterStudentId,
+        @Param("toStudentId") Long toStudentId
+    );
 }
@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface GradeSummaryQueryRepository extends Repository<GradeSummary, Long> {
@@ -24,4 +26,52 @@ public interface GradeSummaryQueryRepository extends Repository<GradeSummary, Lo
         @Param("studentId") Long studentId, 
         @Param("semester") String semester
     );
+
+    @Query(value = 
+        "SELECT " +
+        "  student_id as studentId, " +
+        "  semester, " +
+        "  gpa, " +
+        "  total_credits as totalCredits, " +
+        "  updated_at as updatedAt " +
+        "FROM GRADE_SUMMARY " +
+        "WHERE semester = :semester AND student_id IN (:studentIds)",
+        nativeQuery = true)
+    List<GradeSummaryProjection> findSummariesBySemesterAndStudentIds(
+        @Param("semester") String semester,
+        @Param("studentIds") Collection<Long> studentIds
+    );
+
+    @Query(value = 
+        "SELECT " +
+        "  student_id as studentId, " +
+        "  semester, " +
+        "  gpa, " +
+        "  total_credits as totalCredits, " +
+        "  updated_at as updatedAt " +
+        "FROM GRADE_SUMMARY " +
+        "WHERE student_id = :studentId AND semester IN (:semesters)",
+        nativeQuery = true)
+    List<GradeSummaryProjection> findSummariesByStudentIdAndSemesters(
+        @Param("studentId") Long studentId,
+        @Param("semesters") Collection<String> semesters
+    );
+
+    /**
+     * Keyset page of every student with a summary or an enrolment in the semester.
+     */
+    @Query(value = 
+        "SELECT s.student_id FROM ( " +
+        "  SELECT student_id FROM GRADE_SUMMARY WHERE semester = :semester AND student_id > :afterStudentId " +
+        "  UNION " +
+        "  SELECT student_id FROM ENROLLMENTS WHERE semester = :semester AND student_id > :afterStudentId " +
+        ") s " +
+        "ORDER BY s.student_id " +
+        "LIMIT :limit",
+        nativeQuery = true)
+    List<Long> findStudentIdsBySemester(
+        @Param("semester") String semester,
+        @Param("afterStudentId") Long afterStudentId,
+        @Param("limit") int limit
+    );
 }
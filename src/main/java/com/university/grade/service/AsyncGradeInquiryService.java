@@ -0,0 +1,442 @@
+package com.university.grade.service;
+
+import com.university.grade.cache.GradeCacheBatchReader;
+import com.university.grade.cache.GradeCacheBatchReader.CachedSemester;
+import com.university.grade.cache.GradeListCache;
+import com.university.grade.cache.GradeReleasePolicyCache;
+import com.university.grade.cache.GradeSummaryCache;
+import com.university.grade.dto.CacheResult;
+import com.university.grade.dto.GradeDashboardResponse;
+import com.university.grade.dto.GradeDetailResponse;
+import com.university.grade.dto.GradeSummaryResponse;
+import com.university.grade.dto.GradeTranscriptResponse;
+import com.university.grade.dto.WirePayload;
+import com.university.grade.exception.GradeNotReleasedException;
+import com.university.grade.exception.GradeSummaryNotFoundException;
+import com.university.grade.service.GradeInquiryService.TranscriptRows;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking front of {@link GradeInquiryService}.
+ * The release-policy GET and the payload GET are issued together on the Lettuce event loop; when
+ * both hit, the response completes without ever occupying a servlet or worker thread. Anything
+ * that needs the DB (policy miss, payload miss, strict check) is handed to a bounded loader pool
+ * that runs the regular transactional service. Stale payloads are served as hits and refreshed in
+ * the background, as are fresh ones picked for early refresh.
+ */
+@Service
+public class AsyncGradeInquiryService {
+    private static final Logger logger = LoggerFactory.getLogger(AsyncGradeInquiryService.class);
+    private static final TranscriptRows EMPTY_ROWS = new TranscriptRows(Map.of(), Map.of());
+
+    private final GradeInquiryService gradeInquiryService;
+    private final GradeReleasePolicyService gradeReleasePolicyService;
+    private final GradeReleasePolicySnapshot policySnapshot;
+    private final GradeReleasePolicyCache policyCache;
+    private final GradeSummaryCache gradeSummaryCache;
+    private final GradeListCache gradeListCache;
+    private final GradeCacheBatchReader gradeCacheBatchReader;
+    private final ExecutorService loaderExecutor;
+    private final Counter notReleasedCounter;
+    private final boolean policyStrictCheckEnabled;
+    private final int transcriptMaxSemesters;
+
+    public AsyncGradeInquiryService(
+            GradeInquiryService gradeInquiryService,
+            GradeReleasePolicyService gradeReleasePolicyService,
+            GradeReleasePolicySnapshot policySnapshot,
+            GradeReleasePolicyCache policyCache,
+            GradeSummaryCache gradeSummaryCache,
+            GradeListCache gradeListCache,
+            GradeCacheBatchReader gradeCacheBatchReader,
+            MeterRegistry meterRegistry,
+            @Value("${app.policy.strict-check-enabled:false}") boolean policyStrictCheckEnabled,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled,
+            @Value("${app.async.loader-threads:32}") int loaderThreads,
+            @Value("${app.async.loader-queue-capacity:1000}") int loaderQueueCapacity,
+            @Value("${app.transcript.max-semesters:16}") int transcriptMaxSemesters) {
+        this.gradeInquiryService = gradeInquiryService;
+        this.gradeReleasePolicyService = gradeReleasePolicyService;
+        this.policySnapshot = policySnapshot;
+        this.policyCache = policyCache;
+        this.gradeSummaryCache = gradeSummaryCache;
+        this.gradeListCache = gradeListCache;
+        this.gradeCacheBatchReader = gradeCacheBatchReader;
+        this.policyStrictCheckEnabled = policyStrictCheckEnabled;
+        this.transcriptMaxSemesters = transcriptMaxSemesters;
+
+        // Virtual threads are bounded by the datasource concurrency limiter instead of the pool size
+        ExecutorService executor;
+        if (virtualThreadsEnabled) {
+            executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("grade-loader-", 0).factory());
+        } else {
+            AtomicInteger threadNumber = new AtomicInteger();
+            executor = new ThreadPoolExecutor(loaderThreads, loaderThreads, 60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(loaderQueueCapacity), runnable -> {
+                        Thread thread = new Thread(runnable, "grade-loader-" + threadNumber.getAndIncrement());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+        }
+        this.loaderExecutor = ExecutorServiceMetrics.monitor(meterRegistry, executor, "grade.loader");
+        this.notReleasedCounter = Counter.builder("grade.inquiry.rejected")
+                .tag("reason", "not-released")
+                .register(meterRegistry);
+
+        logger.info("AsyncGradeInquiryService initialized with virtualThreads={}, loaderThreads={}",
+                virtualThreadsEnabled, loaderThreads);
+    }
+
+    public CompletableFuture<CacheResult<GradeSummaryResponse>> getGradeSummary(Long studentId, String semester) {
+        return inquire(semester,
+                gradeSummaryCache.getAsync(studentId, semester),
+                () -> gradeInquiryService.getGradeSummary(studentId, semester),
+                () -> gradeSummaryCache.evict(studentId, semester),
+                () -> gradeSummaryCache.refresh(studentId, semester,
+                        gradeInquiryService.summaryLoader(studentId, semester)));
+    }
+
+    public CompletableFuture<CacheResult<List<GradeDetailResponse>>> getGradeList(Long studentId, String semester) {
+        return inquire(semester,
+                gradeListCache.getAsync(studentId, semester),
+                () -> gradeInquiryService.getGradeList(studentId, semester),
+                () -> gradeListCache.evict(studentId, semester),
+                () -> gradeListCache.refresh(studentId, semester,
+                        gradeInquiryService.gradeListLoader(studentId, semester)));
+    }
+
+    /**
+     * Whether {@link #getGradeSummaryWire} and {@link #getGradeListWire} can serve cache hits.
+     */
+    public boolean isWirePassthrough() {
+        return gradeSummaryCache.isPassthrough() && gradeListCache.isPassthrough();
+    }
+
+    /**
+     * Wire form of {@link #getGradeSummary}: a hit completes with the stored gzip-compressed JSON,
+     * and only a miss materializes the response, which is then encoded once. When the cached
+     * version is one the client already has, completes with {@link WirePayload#notModified}
+     * after reading only the version.
+     *
+     * @param knownVersions content versions held by the client (If-None-Match), may be empty
+     */
+    public CompletableFuture<CacheResult<WirePayload>> getGradeSummaryWire(Long studentId, String semester,
+            Set<Long> knownVersions) {
+        Runnable refresh = () -> gradeSummaryCache.refresh(studentId, semester,
+                gradeInquiryService.summaryLoader(studentId, semester));
+        return unlessNotModified(semester, knownVersions,
+                () -> gradeSummaryCache.getWireVersionAsync(studentId, semester),
+                () -> inquire(semester,
+                        gradeSummaryCache.getWireAsync(studentId, semester),
+                        () -> toWire(gradeInquiryService.getGradeSummary(studentId, semester),
+                                gradeSummaryCache::encodeWire),
+                        () -> gradeSummaryCache.evict(studentId, semester),
+                        refresh),
+                refresh);
+    }
+
+    public CompletableFuture<CacheResult<WirePayload>> getGradeListWire(Long studentId, String semester,
+            Set<Long> knownVersions) {
+        Runnable refresh = () -> gradeListCache.refresh(studentId, semester,
+                gradeInquiryService.gradeListLoader(studentId, semester));
+        return unlessNotModified(semester, knownVersions,
+                () -> gradeListCache.getWireVersionAsync(studentId, semester),
+                () -> inquire(semester,
+                        gradeListCache.getWireAsync(studentId, semester),
+                        () -> toWire(gradeInquiryService.getGradeList(studentId, semester),
+                                gradeListCache::encodeWire),
+                        () -> gradeListCache.evict(studentId, semester),
+                        refresh),
+                refresh);
+    }
+
+    /**
+     * Summary and grade list in one response: one MGET for policy + both payloads, and the DB only
+     * for whichever part is missing.
+     */
+    public CompletableFuture<CacheResult<GradeDashboardResponse>> getGradeDashboard(Long studentId, String semester) {
+        return gradeCacheBatchReader.readAsync(studentId, List.of(semester), true, policySnapshot::isReleased)
+                .thenCompose(entries -> {
+                    CachedSemester cached = entries.get(semester);
+                    if (cached.released().isPresent() && !cached.released().get()) {
+                        notReleasedCounter.increment();
+                        logger.debug("Grade inquiry rejected - not released: semester={}", semester);
+                        return CompletableFuture.failedFuture(GradeNotReleasedException.INSTANCE);
+                    }
+                    if (cached.isComplete(true) && !policyStrictCheckEnabled) {
+                        if (cached.summary().get().value() == null) {
+                            return CompletableFuture.failedFuture(GradeSummaryNotFoundException.INSTANCE);
+                        }
+                        refreshDue(studentId, semester, cached);
+                        return CompletableFuture.completedFuture(new CacheResult<>(
+                                new GradeDashboardResponse(cached.summary().get().value(),
+                                        cached.grades().get().value()),
+                                cached.stale(), false));
+                    }
+                    return CompletableFuture.supplyAsync(() -> loadDashboard(studentId, semester, cached),
+                            loaderExecutor);
+                });
+    }
+
+    /**
+     * Every released semester of the student, newest first and capped at max-semesters: one GET for
+     * the released-semester index, one MGET for policies and payloads, and on a miss one IN query
+     * per table for all missing semesters together.
+     */
+    public CompletableFuture<CacheResult<GradeTranscriptResponse>> getGradeTranscript(Long studentId,
+            boolean includeGrades) {
+        CompletableFuture<List<String>> releasedLookup = policySnapshot.releasedSemesters()
+                .map(CompletableFuture::completedFuture)
+                .orElseGet(() -> policyCache.getReleasedSemestersAsync()
+                        .thenCompose(cached -> cached.map(CompletableFuture::completedFuture)
+                                .orElseGet(() -> CompletableFuture.supplyAsync(
+                                        gradeReleasePolicyService::getReleasedSemesters, loaderExecutor))));
+        return releasedLookup.thenCompose(released -> {
+            List<String> semesters = released.subList(0, Math.min(released.size(), transcriptMaxSemesters));
+            boolean hasMore = released.size() > semesters.size();
+            if (semesters.isEmpty()) {
+                return CompletableFuture.completedFuture(
+                        CacheResult.fresh(new GradeTranscriptResponse(List.of(), false)));
+            }
+            return gradeCacheBatchReader.readAsync(studentId, semesters, includeGrades,
+                    policySnapshot::isReleased)
+                    .thenCompose(entries -> {
+                        boolean complete = entries.values().stream()
+                                .allMatch(cached -> isRejected(cached) || cached.isComplete(includeGrades));
+                        if (complete && !policyStrictCheckEnabled) {
+                            return CompletableFuture.completedFuture(new CacheResult<>(
+                                    buildTranscript(entries, EMPTY_ROWS, includeGrades, hasMore),
+                                    refreshDue(studentId, entries), false));
+                        }
+                        return CompletableFuture.supplyAsync(
+                                () -> loadTranscript(studentId, entries, includeGrades, hasMore),
+                                loaderExecutor);
+                    });
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        loaderExecutor.shutdown();
+    }
+
+    private <T> CompletableFuture<CacheResult<T>> inquire(String semester,
+            CompletableFuture<Optional<CacheResult<T>>> cachedLookup, Supplier<CacheResult<T>> blockingInquiry,
+            Runnable evict, Runnable refresh) {
+        // The policy normally comes from the in-process snapshot; otherwise both GETs are in flight
+        // and combine completes on whichever event-loop callback is last
+        CompletableFuture<Optional<Boolean>> policyLookup = policySnapshot.isReleased(semester)
+                .map(released -> CompletableFuture.completedFuture(Optional.of(released)))
+                .orElseGet(() -> policyCache.getAsync(semester));
+        return policyLookup.thenCombine(cachedLookup, CachedState<CacheResult<T>>::new)
+                .thenCompose(state -> {
+                    if (state.released().isPresent() && !state.released().get()) {
+                        notReleasedCounter.increment();
+                        logger.debug("Grade inquiry rejected - not released: semester={}", semester);
+                        return CompletableFuture.failedFuture(GradeNotReleasedException.INSTANCE);
+                    }
+                    if (state.released().isEmpty() || state.cached().isEmpty()) {
+                        // Policy or payload miss - the blocking path loads, caches and re-checks everything
+                        return CompletableFuture.supplyAsync(blockingInquiry, loaderExecutor);
+                    }
+                    CacheResult<T> response = state.cached().get();
+                    if (response.value() == null) {
+                        // Cached absence; only summaries have one
+                        return CompletableFuture.failedFuture(GradeSummaryNotFoundException.INSTANCE);
+                    }
+                    if (!policyStrictCheckEnabled) {
+                        if (response.refreshDue()) {
+                            refresh.run();
+                        }
+                        return CompletableFuture.completedFuture(response);
+                    }
+                    return CompletableFuture.supplyAsync(() -> {
+                        if (!gradeReleasePolicyService.isGradeReleasedStrict(semester)) {
+                            evict.run();
+                            logger.warn("Grade inquiry rejected - policy changed to not released: semester={}",
+                                    semester);
+                            throw GradeNotReleasedException.INSTANCE;
+                        }
+                        if (response.refreshDue()) {
+                            refresh.run();
+                        }
+                        return response;
+                    }, loaderExecutor);
+                });
+    }
+
+    private CacheResult<GradeDashboardResponse> loadDashboard(Long studentId, String semester,
+            CachedSemester cached) {
+        boolean released = cached.released()
+                .orElseGet(() -> gradeReleasePolicyService.isGradeReleasedCached(semester));
+        if (!released) {
+            notReleasedCounter.increment();
+            logger.debug("Grade inquiry rejected - not released: semester={}", semester);
+            throw GradeNotReleasedException.INSTANCE;
+        }
+
+        // Missing parts go through the regular service (cache-first, coalesced, strict-checked)
+        CacheResult<GradeSummaryResponse> summary = cached.summary()
+                .orElseGet(() -> gradeInquiryService.getGradeSummary(studentId, semester));
+        if (summary.value() == null) {
+            throw GradeSummaryNotFoundException.INSTANCE;
+        }
+        CacheResult<List<GradeDetailResponse>> grades = cached.grades()
+                .orElseGet(() -> gradeInquiryService.getGradeList(studentId, semester));
+
+        // One strict check covers whatever was served from cache
+        if (policyStrictCheckEnabled && (cached.summary().isPresent() || cached.grades().isPresent())
+                && !gradeReleasePolicyService.isGradeReleasedStrict(semester)) {
+            gradeSummaryCache.evict(studentId, semester);
+            gradeListCache.evict(studentId, semester);
+            logger.warn("Grade inquiry rejected - policy changed to not released: semester={}", semester);
+            throw GradeNotReleasedException.INSTANCE;
+        }
+        refreshDue(studentId, semester, cached);
+        return new CacheResult<>(new GradeDashboardResponse(summary.value(), grades.value()),
+                summary.stale() || grades.stale(), false);
+    }
+
+    private CacheResult<GradeTranscriptResponse> loadTranscript(Long studentId, Map<String, CachedSemester> entries,
+            boolean includeGrades, boolean hasMore) {
+        Map<String, CachedSemester> candidates = new LinkedHashMap<>(entries);
+        if (policyStrictCheckEnabled) {
+            Set<String> released = new HashSet<>(gradeReleasePolicyService.getReleasedSemestersStrict());
+            candidates.keySet().removeIf(semester -> {
+                if (released.contains(semester)) {
+                    return false;
+                }
+                gradeSummaryCache.evict(studentId, semester);
+                gradeListCache.evict(studentId, semester);
+                logger.warn("Transcript semester dropped - policy changed to not released: semester={}", semester);
+                return true;
+            });
+        }
+
+        List<String> summaryMisses = new ArrayList<>();
+        List<String> listMisses = new ArrayList<>();
+        candidates.forEach((semester, cached) -> {
+            if (isRejected(cached)) {
+                return;
+            }
+            if (cached.summary().isEmpty()) {
+                summaryMisses.add(semester);
+            }
+            if (includeGrades && cached.grades().isEmpty()) {
+                listMisses.add(semester);
+            }
+        });
+        TranscriptRows rows = summaryMisses.isEmpty() && listMisses.isEmpty() ? EMPTY_ROWS
+                : gradeInquiryService.loadTranscriptRows(studentId, summaryMisses, listMisses);
+        return new CacheResult<>(buildTranscript(candidates, rows, includeGrades, hasMore),
+                refreshDue(studentId, candidates), false);
+    }
+
+    /**
+     * Answers a conditional request from the cached version alone when the release status is known
+     * in-process; anything else (no validators, policy not in the snapshot, strict check, version
+     * mismatch or miss) takes the full path, which re-checks everything.
+     */
+    private CompletableFuture<CacheResult<WirePayload>> unlessNotModified(String semester, Set<Long> knownVersions,
+            Supplier<CompletableFuture<Optional<CacheResult<Long>>>> versionLookup,
+            Supplier<CompletableFuture<CacheResult<WirePayload>>> fullInquiry, Runnable refresh) {
+        if (knownVersions.isEmpty() || policyStrictCheckEnabled
+                || !policySnapshot.isReleased(semester).orElse(false)) {
+            return fullInquiry.get();
+        }
+        return versionLookup.get().thenCompose(cached -> {
+            if (cached.isEmpty() || !knownVersions.contains(cached.get().value())) {
+                return fullInquiry.get();
+            }
+            if (cached.get().refreshDue()) {
+                refresh.run();
+            }
+            return CompletableFuture.completedFuture(new CacheResult<>(
+                    WirePayload.notModified(cached.get().value()), cached.get().stale(), false));
+        });
+    }
+
+    private static <T> CacheResult<WirePayload> toWire(CacheResult<T> result, Function<T, WirePayload> encoder) {
+        return new CacheResult<>(encoder.apply(result.value()), result.stale(), false);
+    }
+
+    /**
+     * Schedules a background reload of every refresh-due part that is about to be served.
+     *
+     * @return whether anything served is stale
+     */
+    private boolean refreshDue(Long studentId, Map<String, CachedSemester> entries) {
+        boolean stale = false;
+        for (Map.Entry<String, CachedSemester> entry : entries.entrySet()) {
+            if (!isRejected(entry.getValue())) {
+                refreshDue(studentId, entry.getKey(), entry.getValue());
+                stale |= entry.getValue().stale();
+            }
+        }
+        return stale;
+    }
+
+    private void refreshDue(Long studentId, String semester, CachedSemester cached) {
+        if (cached.summary().filter(CacheResult::refreshDue).isPresent()) {
+            gradeSummaryCache.refresh(studentId, semester, gradeInquiryService.summaryLoader(studentId, semester));
+        }
+        if (cached.grades().filter(CacheResult::refreshDue).isPresent()) {
+            gradeListCache.refresh(studentId, semester, gradeInquiryService.gradeListLoader(studentId, semester));
+        }
+    }
+
+    private static GradeTranscriptResponse buildTranscript(Map<String, CachedSemester> entries, TranscriptRows rows,
+            boolean includeGrades, boolean hasMore) {
+        List<GradeDashboardResponse> semesters = new ArrayList<>(entries.size());
+        entries.forEach((semester, cached) -> {
+            if (isRejected(cached)) {
+                return;
+            }
+            // No summary row means nothing was graded that semester - it is left out of the transcript
+            Optional<GradeSummaryResponse> summary = cached.summary().map(CacheResult::value)
+                    .or(() -> Optional.ofNullable(rows.summaries().get(semester)));
+            if (summary.isEmpty()) {
+                return;
+            }
+            List<GradeDetailResponse> grades = includeGrades
+                    ? cached.grades().map(CacheResult::value).orElseGet(() -> rows.gradeLists().getOrDefault(semester, List.of()))
+                    : null;
+            semesters.add(new GradeDashboardResponse(summary.get(), grades));
+        });
+        return new GradeTranscriptResponse(semesters, hasMore);
+    }
+
+    /**
+     * The per-semester policy key is authoritative over a released-semester index written earlier.
+     */
+    private static boolean isRejected(CachedSemester cached) {
+        return cached.released().isPresent() && !cached.released().get();
+    }
+
+    private record CachedState<T>(Optional<Boolean> released, Optional<T> cached) {
+    }
+}
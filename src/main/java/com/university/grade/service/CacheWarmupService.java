@@ -0,0 +1,270 @@
+package com.university.grade.service;
+
+import com.university.grade.cache.GradeListCache;
+import com.university.grade.cache.GradeSummaryCache;
+import com.university.grade.config.ReplicaOnlyRouting;
+import com.university.grade.config.ReplicaReadContext;
+import com.university.grade.dto.GradeDetailResponse;
+import com.university.grade.dto.GradeSummaryResponse;
+import com.university.grade.mapper.GradeDetailMapper;
+import com.university.grade.mapper.GradeSummaryMapper;
+import com.university.grade.repository.projection.GradeSummaryProjection;
+import com.university.grade.repository.query.GradeSummaryQueryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Pre-fills the summary and list caches for a whole semester before students arrive.
+ * Reads only from replicas, writes to Redis in pipelined batches, and keeps a per-semester
+ * student_id cursor in Redis so an interrupted run resumes where it stopped.
+ */
+@Service
+public class CacheWarmupService {
+    private static final Logger logger = LoggerFactory.getLogger(CacheWarmupService.class);
+    private static final String ACTIVE_SET_KEY = "grade:warmup:active";
+    private static final String CURSOR_KEY_PREFIX = "grade:warmup:cursor:";
+    private static final String LOCK_KEY_PREFIX = "grade:warmup:lock:";
+
+    private final GradeSummaryCache gradeSummaryCache;
+    private final GradeListCache gradeListCache;
+    private final GradeSummaryQueryRepository gradeSummaryRepository;
+    private final GradeListBatchLoader gradeListBatchLoader;
+    private final GradeSummaryMapper gradeSummaryMapper;
+    private final GradeDetailMapper gradeDetailMapper;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor;
+    private final Set<String> runningSemesters = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger runningCount = new AtomicInteger();
+    private final Timer chunkTimer;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final int maxStudentsPerSecond;
+    private final Duration lockTtl;
+
+    public CacheWarmupService(
+            GradeSummaryCache gradeSummaryCache,
+            GradeListCache gradeListCache,
+            GradeSummaryQueryRepository gradeSummaryRepository,
+            GradeListBatchLoader gradeListBatchLoader,
+            GradeSummaryMapper gradeSummaryMapper,
+            GradeDetailMapper gradeDetailMapper,
+            RedisTemplate<String, String> redisTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.warmup.enabled:true}") boolean enabled,
+            @Value("${app.warmup.chunk-size:500}") int chunkSize,
+            @Value("${app.warmup.max-students-per-second:2000}") int maxStudentsPerSecond,
+            @Value("${app.warmup.lock-ttl:60s}") Duration lockTtl) {
+        this.gradeSummaryCache = gradeSummaryCache;
+        this.gradeListCache = gradeListCache;
+        this.gradeSummaryRepository = gradeSummaryRepository;
+        this.gradeListBatchLoader = gradeListBatchLoader;
+        this.gradeSummaryMapper = gradeSummaryMapper;
+        this.gradeDetailMapper = gradeDetailMapper;
+        this.redisTemplate = redisTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.maxStudentsPerSecond = maxStudentsPerSecond;
+        this.lockTtl = lockTtl;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.chunkTimer = Timer.builder("grade.warmup.chunk")
+                .register(meterRegistry);
+        Gauge.builder("grade.warmup.running", runningCount, AtomicInteger::get)
+                .register(meterRegistry);
+
+        logger.info("CacheWarmupService initialized with enabled={}, chunkSize={}, maxStudentsPerSecond={}",
+                enabled, chunkSize, maxStudentsPerSecond);
+    }
+
+    /**
+     * Schedules a warmup run for the semester.
+     *
+     * @return false if warmup is disabled or already running on this pod
+     */
+    public boolean startWarmup(String semester) {
+        if (!enabled) {
+            logger.info("Cache warmup disabled, skipping: semester={}", semester);
+            return false;
+        }
+        if (!runningSemesters.add(semester)) {
+            logger.info("Cache warmup already running on this pod: semester={}", semester);
+            return false;
+        }
+        try {
+            redisTemplate.opsForSet().add(ACTIVE_SET_KEY, semester);
+        } catch (Exception e) {
+            logger.warn("[Redis][Warmup] Failed to mark warmup active (resume disabled): {}", e.getMessage());
+        }
+        executor.submit(() -> {
+            try {
+                runWarmup(semester);
+            } finally {
+                runningSemesters.remove(semester);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Resumes runs that were interrupted by a pod restart.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedWarmups() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Set<String> active = redisTemplate.opsForSet().members(ACTIVE_SET_KEY);
+            if (active != null) {
+                for (String semester : active) {
+                    logger.info("Resuming interrupted cache warmup: semester={}", semester);
+                    startWarmup(semester);
+                }
+            }
+        } catch (Exception e) {
+            logger.warn("[Redis][Warmup] Failed to read interrupted warmups: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void runWarmup(String semester) {
+        String lockKey = LOCK_KEY_PREFIX + semester;
+        String cursorKey = CURSOR_KEY_PREFIX + semester;
+        Boolean locked;
+        try {
+            locked = redisTemplate.opsForValue().setIfAbsent(lockKey, "1", lockTtl);
+        } catch (Exception e) {
+            logger.warn("[Redis][Warmup] Lock acquire failure, skipping: semester={}, error={}", semester,
+                    e.getMessage());
+            return;
+        }
+        if (!Boolean.TRUE.equals(locked)) {
+            logger.info("Cache warmup owned by another pod: semester={}", semester);
+            return;
+        }
+
+        runningCount.incrementAndGet();
+        Counter warmedCounter = Counter.builder("grade.warmup.students")
+                .tag("semester", semester)
+                .register(meterRegistry);
+        try {
+            String savedCursor = redisTemplate.opsForValue().get(cursorKey);
+            long cursor = savedCursor != null ? Long.parseLong(savedCursor) : 0L;
+            long minIntervalNanos = maxStudentsPerSecond > 0
+                    ? 1_000_000_000L * chunkSize / maxStudentsPerSecond
+                    : 0L;
+            logger.info("Cache warmup started: semester={}, cursor={}", semester, cursor);
+
+            while (!Thread.currentThread().isInterrupted()) {
+                long chunkStart = System.nanoTime();
+                long from = cursor;
+                List<Long> warmed = chunkTimer.record(() -> warmChunk(semester, from));
+                if (warmed == null || warmed.isEmpty()) {
+                    break;
+                }
+                cursor = warmed.get(warmed.size() - 1);
+                redisTemplate.opsForValue().set(cursorKey, String.valueOf(cursor));
+                redisTemplate.expire(lockKey, lockTtl);
+                warmedCounter.increment(warmed.size());
+
+                // Throttle to protect the replicas
+                long remaining = minIntervalNanos - (System.nanoTime() - chunkStart);
+                if (remaining > 0) {
+                    Thread.sleep(remaining / 1_000_000L, (int) (remaining % 1_000_000L));
+                }
+            }
+
+            if (!Thread.currentThread().isInterrupted()) {
+                redisTemplate.delete(cursorKey);
+                redisTemplate.opsForSet().remove(ACTIVE_SET_KEY, semester);
+                logger.info("Cache warmup completed: semester={}", semester);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.info("Cache warmup interrupted, will resume on restart: semester={}", semester);
+        } catch (Exception e) {
+            logger.error("Cache warmup failed, will resume on restart: semester={}", semester, e);
+        } finally {
+            runningCount.decrementAndGet();
+            redisTemplate.delete(lockKey);
+        }
+    }
+
+    /**
+     * One keyset page as read from the replica, with the lagging-read status of its transaction.
+     */
+    private record LoadedChunk(List<Long> studentIds, Map<Long, GradeSummaryResponse> summaries,
+            Map<Long, List<GradeDetailResponse>> gradeLists, boolean laggingRead) {
+    }
+
+    /**
+     * Warms one keyset page of students. The page is read in the transaction and written to Redis
+     * after it completes, so the replica connection and its cursor are not held across the pipeline.
+     *
+     * @return the student_ids warmed, empty when the semester is exhausted
+     */
+    private List<Long> warmChunk(String semester, long afterStudentId) {
+        LoadedChunk chunk = ReplicaOnlyRouting.call(() -> readOnlyTransaction.execute(status -> {
+            List<Long> studentIds = gradeSummaryRepository.findStudentIdsBySemester(semester, afterStudentId,
+                    chunkSize);
+            if (studentIds.isEmpty()) {
+                return new LoadedChunk(studentIds, Map.of(), Map.of(), false);
+            }
+
+            Map<Long, GradeSummaryResponse> summaries = gradeSummaryRepository
+                    .findSummariesBySemesterAndStudentIds(semester, studentIds).stream()
+                    .collect(Collectors.toMap(GradeSummaryProjection::getStudentId, gradeSummaryMapper::toDto));
+
+            // One streamed range query for the whole page instead of a JOIN per student
+            Map<Long, List<GradeDetailResponse>> gradeLists = new HashMap<>();
+            gradeListBatchLoader.streamByStudentIdRange(semester, afterStudentId,
+                    studentIds.get(studentIds.size() - 1),
+                    (studentId, rows) -> gradeLists.put(studentId, rows.stream()
+                            .map(gradeDetailMapper::toDto)
+                            .collect(Collectors.toList())));
+            return new LoadedChunk(studentIds, summaries, gradeLists, ReplicaReadContext.isLaggingRead());
+        }));
+
+        ReplicaReadContext.replay(chunk.laggingRead(), () -> {
+            gradeSummaryCache.putAll(semester, chunk.summaries());
+            gradeListCache.putAll(semester, chunk.gradeLists());
+        });
+        return chunk.studentIds();
+    }
+}
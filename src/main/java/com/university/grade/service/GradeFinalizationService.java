@@ -0,0 +1,112 @@
+package com.university.grade.service;
+
+import com.university.grade.dto.GradeFinalizationRequest;
+import com.university.grade.dto.GradeFinalizationResponse;
+import com.university.grade.event.CacheInvalidationEventProcessor;
+import com.university.grade.repository.command.CacheInvalidationOutboxRepository;
+import com.university.grade.repository.command.GradeFinalizationCommandRepository;
+import com.university.grade.repository.command.GradeFinalizationCommandRepository.FinalizedGrade;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Finalizes grades for one semester and recomputes the affected GRADE_SUMMARY rows in the same
+ * Master transaction, together with one outbox row per affected student so exactly their
+ * summary/list cache entries are evicted once the change is committed.
+ */
+@Service
+public class GradeFinalizationService {
+    private static final Logger logger = LoggerFactory.getLogger(GradeFinalizationService.class);
+
+    private final GradeFinalizationCommandRepository finalizationCommandRepository;
+    private final CacheInvalidationOutboxRepository outboxRepository;
+    private final CacheInvalidationEventProcessor eventProcessor;
+    private final Timer finalizeTimer;
+    private final int batchSize;
+
+    public GradeFinalizationService(
+            GradeFinalizationCommandRepository finalizationCommandRepository,
+            CacheInvalidationOutboxRepository outboxRepository,
+            CacheInvalidationEventProcessor eventProcessor,
+            MeterRegistry meterRegistry,
+            @Value("${app.finalization.batch-size:500}") int batchSize) {
+        this.finalizationCommandRepository = finalizationCommandRepository;
+        this.outboxRepository = outboxRepository;
+        this.eventProcessor = eventProcessor;
+        this.finalizeTimer = Timer.builder("grade.finalization.duration")
+                .register(meterRegistry);
+        this.batchSize = batchSize;
+    }
+
+    @Transactional
+    public GradeFinalizationResponse finalizeGrades(GradeFinalizationRequest request) {
+        return finalizeTimer.record(() -> finalizeSemester(request.getSemester(), request.getGrades()));
+    }
+
+    private GradeFinalizationResponse finalizeSemester(String semester, List<GradeFinalizationRequest.Grade> grades) {
+        // Last entry wins if an enrollment is sent twice
+        Map<Long, FinalizedGrade> byEnrollment = new LinkedHashMap<>();
+        for (GradeFinalizationRequest.Grade grade : grades) {
+            byEnrollment.put(grade.getEnrollmentId(),
+                    new FinalizedGrade(grade.getEnrollmentId(), grade.getScore(), grade.getGradeLetter()));
+        }
+
+        Map<Long, Long> studentIds = finalizationCommandRepository
+                .findStudentIdsByEnrollmentIds(semester, byEnrollment.keySet());
+        if (studentIds.size() != byEnrollment.size()) {
+            Set<Long> unknown = new TreeSet<>(byEnrollment.keySet());
+            unknown.removeAll(studentIds.keySet());
+            logger.warn("Grade finalization rejected, enrollments not in semester: semester={}, count={}",
+                    semester, unknown.size());
+            throw new IllegalArgumentException("해당 학기의 수강 정보가 아닙니다: " + unknown);
+        }
+
+        finalizationCommandRepository.upsertFinalizedGrades(List.copyOf(byEnrollment.values()), batchSize);
+        Set<Long> affectedStudents = Set.copyOf(studentIds.values());
+        int summaries = finalizationCommandRepository.recomputeSummaries(semester, affectedStudents);
+        outboxRepository.appendGradeChanges(semester, affectedStudents, batchSize);
+
+        logger.info("Grades finalized: semester={}, grades={}, students={}, summaryRows={}",
+                semester, byEnrollment.size(), affectedStudents.size(), summaries);
+
+        // The outbox rows only become visible on commit; process them now rather than on the next poll
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eventProcessor.wakeUp();
+            }
+        });
+
+        return new GradeFinalizationResponse(semester, byEnrollment.size(), affectedStudents.size());
+    }
+
+    /**
+     * Retires every cached summary and grade list of the semester, for corrections made outside
+     * this service. Runs through the outbox like any other invalidation.
+     */
+    @Transactional
+    public void invalidateSemester(String semester) {
+        outboxRepository.appendSemesterChange(semester);
+        logger.info("Semester cache invalidation requested: semester={}", semester);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eventProcessor.wakeUp();
+            }
+        });
+    }
+}
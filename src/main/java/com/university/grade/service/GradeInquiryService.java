@@ -2,11 +2,16 @@ package com.university.grade.service;
 
 import com.university.grade.cache.GradeListCache;
 import com.university.grade.cache.GradeSummaryCache;
+import com.university.grade.config.CacheReadScope;
+import com.university.grade.config.ReplicaReadContext;
+import com.university.grade.dto.CacheResult;
 import com.university.grade.dto.GradeDetailResponse;
 import com.university.grade.dto.GradeSummaryResponse;
+import com.university.grade.exception.GradeNotReleasedException;
+import com.university.grade.exception.GradeSummaryNotFoundException;
 import com.university.grade.mapper.GradeDetailMapper;
+import com.university.grade.mapper.GradeSummaryMapper;
 import com.university.grade.repository.projection.GradeDetailProjection;
-import com.university.grade.repository.projection.GradeSummaryProjection;
 import com.university.grade.repository.query.GradeListQueryRepository;
 import com.university.grade.repository.query.GradeSummaryQueryRepository;
 import io.micrometer.core.instrument.Counter;
@@ -16,10 +21,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,12 +42,11 @@ public class GradeInquiryService {
     private final GradeSummaryQueryRepository gradeSummaryRepository;
     private final GradeListQueryRepository gradeListRepository;
     private final GradeDetailMapper gradeDetailMapper;
-    private final Counter cacheHitCounterSummary;
-    private final Counter cacheMissCounterSummary;
-    private final Counter cacheHitCounterList;
-    private final Counter cacheMissCounterList;
+    private final GradeSummaryMapper gradeSummaryMapper;
+    private final TransactionTemplate readOnlyTransaction;
     private final Timer dbQueryTimerSummary;
     private final Timer dbQueryTimerList;
+    private final Counter notReleasedCounter;
     private final boolean policyStrictCheckEnabled;
 
     public GradeInquiryService(
@@ -47,6 +56,8 @@ public class GradeInquiryService {
             GradeSummaryQueryRepository gradeSummaryRepository,
             GradeListQueryRepository gradeListRepository,
             GradeDetailMapper gradeDetailMapper,
+            GradeSummaryMapper gradeSummaryMapper,
+            PlatformTransactionManager transactionManager,
             MeterRegistry meterRegistry,
             @Value("${app.policy.strict-check-enabled:false}") boolean policyStrictCheckEnabled) {
         this.gradeSummaryCache = gradeSummaryCache;
@@ -55,63 +66,73 @@ public class GradeInquiryService {
         this.gradeSummaryRepository = gradeSummaryRepository;
         this.gradeListRepository = gradeListRepository;
         this.gradeDetailMapper = gradeDetailMapper;
-        this.cacheHitCounterSummary = Counter.builder("grade.cache.hit")
-                .tag("type", "summary")
-                .register(meterRegistry);
-        this.cacheMissCounterSummary = Counter.builder("grade.cache.miss")
-                .tag("type", "summary")
-                .register(meterRegistry);
-        this.cacheHitCounterList = Counter.builder("grade.cache.hit")
-                .tag("type", "list")
-                .register(meterRegistry);
-        this.cacheMissCounterList = Counter.builder("grade.cache.miss")
-                .tag("type", "list")
-                .register(meterRegistry);
+        this.gradeSummaryMapper = gradeSummaryMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
         this.dbQueryTimerSummary = Timer.builder("grade.db.query")
                 .tag("type", "summary")
                 .register(meterRegistry);
         this.dbQueryTimerList = Timer.builder("grade.db.query")
                 .tag("type", "list")
                 .register(meterRegistry);
+        this.notReleasedCounter = Counter.builder("grade.inquiry.rejected")
+                .tag("reason", "not-released")
+                .register(meterRegistry);
         this.policyStrictCheckEnabled = policyStrictCheckEnabled;
 
         logger.info("GradeInquiryService initialized with policyStrictCheckEnabled={}", policyStrictCheckEnabled);
     }
 
-    @Transactional(readOnly = true)
-    public GradeSummaryResponse getGradeSummary(Long studentId, String semester) {
+    /**
+     * Not transactional: a hit is served without touching the DataSource, and a miss loads in a
+     * read-only transaction opened by the cache around the load.
+     */
+    public CacheResult<GradeSummaryResponse> getGradeSummary(Long studentId, String semester) {
         boolean isReleased = gradeReleasePolicyService.isGradeReleasedCached(semester);
         if (!isReleased) {
-            logger.warn("Grade inquiry rejected - not released: semester={}", semester);
-            throw new IllegalStateException("성적 공개 기간이 아닙니다.");
+            // Polling before a release makes this the common case; counted rather than logged
+            notReleasedCounter.increment();
+            logger.debug("Grade inquiry rejected - not released: semester={}", semester);
+            throw GradeNotReleasedException.INSTANCE;
+        }
+
+        // Cache-first; the loader only runs on a miss and is coalesced per key
+        CacheResult<GradeSummaryResponse> response = CacheReadScope.call(
+                () -> gradeSummaryCache.getOrLoad(studentId, semester, summaryLoader(studentId, semester)));
+
+        // Optional strict check - disabled by default for performance
+        if (policyStrictCheckEnabled && response.value() != null) {
+            boolean isStrictReleased = gradeReleasePolicyService.isGradeReleasedStrict(semester);
+            if (!isStrictReleased) {
+                gradeSummaryCache.evict(studentId, semester);
+                logger.warn("Grade inquiry rejected - policy changed to not released: semester={}", semester);
+                throw GradeNotReleasedException.INSTANCE;
+            }
         }
 
-        // Check cache first to accurately track hit/miss
-        Optional<GradeSummaryResponse> cached = gradeSummaryCache.get(studentId, semester);
-        if (cached.isPresent()) {
-            cacheHitCounterSummary.increment();
-            logger.debug("Cache HIT - Retrieved grade summary from cache: semester={}", semester);
-            return cached.get();
+        // Absent summaries are cached too, so this costs one Redis read after the first request
+        if (response.value() == null) {
+            throw GradeSummaryNotFoundException.INSTANCE;
         }
 
-        // Cache miss - load from DB
-        cacheMissCounterSummary.increment();
-        GradeSummaryResponse response = gradeSummaryCache.getOrLoad(studentId, semester, () -> {
+        return response;
+    }
+
+    /**
+     * DB load of one summary, as run on a cache miss or a background refresh; null when the student
+     * has no summary for the semester.
+     */
+    public Supplier<GradeSummaryResponse> summaryLoader(Long studentId, String semester) {
+        return () -> {
             try {
                 return dbQueryTimerSummary.recordCallable(() -> {
                     var summaryOpt = gradeSummaryRepository.findSummaryByStudentIdAndSemester(studentId, semester);
                     if (summaryOpt.isEmpty()) {
                         logger.warn("Grade summary not found: semester={}", semester);
-                        throw new IllegalArgumentException("성적 요약 정보를 찾을 수 없습니다.");
+                        return null;
                     }
 
-                    GradeSummaryProjection summary = summaryOpt.get();
-                    GradeSummaryResponse result = new GradeSummaryResponse();
-                    result.setStudentId(summary.getStudentId());
-                    result.setSemester(summary.getSemester());
-                    result.setGpa(summary.getGpa());
-                    result.setTotalCredits(summary.getTotalCredits());
-                    result.setUpdatedAt(summary.getUpdatedAt());
+                    GradeSummaryResponse result = gradeSummaryMapper.toDto(summaryOpt.get());
 
                     logger.debug("Cache MISS - Retrieved grade summary from DB: semester={}", semester);
                     return result;
@@ -120,40 +141,43 @@ public class GradeInquiryService {
                 logger.error("Failed to load grade summary from DB: semester={}", semester, e);
                 throw new RuntimeException("성적 요약 정보를 불러오는데 실패했습니다.", e);
             }
-        });
+        };
+    }
+
+    /**
+     * Not transactional, as {@link #getGradeSummary}.
+     */
+    public CacheResult<List<GradeDetailResponse>> getGradeList(Long studentId, String semester) {
+        boolean isReleased = gradeReleasePolicyService.isGradeReleasedCached(semester);
+        if (!isReleased) {
+            // Polling before a release makes this the common case; counted rather than logged
+            notReleasedCounter.increment();
+            logger.debug("Grade inquiry rejected - not released: semester={}", semester);
+            throw GradeNotReleasedException.INSTANCE;
+        }
+
+        // Cache-first; the loader only runs on a miss and is coalesced per key
+        CacheResult<List<GradeDetailResponse>> response = CacheReadScope.call(
+                () -> gradeListCache.getOrLoad(studentId, semester, gradeListLoader(studentId, semester)));
 
         // Optional strict check - disabled by default for performance
-        if (policyStrictCheckEnabled && response != null) {
+        if (policyStrictCheckEnabled && response.value() != null && !response.value().isEmpty()) {
             boolean isStrictReleased = gradeReleasePolicyService.isGradeReleasedStrict(semester);
             if (!isStrictReleased) {
-                gradeSummaryCache.evict(studentId, semester);
+                gradeListCache.evict(studentId, semester);
                 logger.warn("Grade inquiry rejected - policy changed to not released: semester={}", semester);
-                throw new IllegalStateException("성적 공개 기간이 아닙니다.");
+                throw GradeNotReleasedException.INSTANCE;
             }
         }
 
         return response;
     }
 
-    @Transactional(readOnly = true)
-    public List<GradeDetailResponse> getGradeList(Long studentId, String semester) {
-        boolean isReleased = gradeReleasePolicyService.isGradeReleasedCached(semester);
-        if (!isReleased) {
-            logger.warn("Grade inquiry rejected - not released: semester={}", semester);
-            throw new IllegalStateException("성적 공개 기간이 아닙니다.");
-        }
-
-        // Check cache first to accurately track hit/miss
-        Optional<List<GradeDetailResponse>> cached = gradeListCache.get(studentId, semester);
-        if (cached.isPresent()) {
-            cacheHitCounterList.increment();
-            logger.debug("Cache HIT - Retrieved grade list from cache: semester={}", semester);
-            return cached.get();
-        }
-
-        // Cache miss - load from DB
-        cacheMissCounterList.increment();
-        List<GradeDetailResponse> response = gradeListCache.getOrLoad(studentId, semester, () -> {
+    /**
+     * DB load of one grade list, as run on a cache miss or a background refresh.
+     */
+    public Supplier<List<GradeDetailResponse>> gradeListLoader(Long studentId, String semester) {
+        return () -> {
             try {
                 return dbQueryTimerList.recordCallable(() -> {
                     List<GradeDetailProjection> projections = gradeListRepository
@@ -172,18 +196,53 @@ public class GradeInquiryService {
                 logger.error("Failed to load grade list from DB: semester={}", semester, e);
                 throw new RuntimeException("성적 목록을 불러오는데 실패했습니다.", e);
             }
-        });
+        };
+    }
 
-        // Optional strict check - disabled by default for performance
-        if (policyStrictCheckEnabled && response != null && !response.isEmpty()) {
-            boolean isStrictReleased = gradeReleasePolicyService.isGradeReleasedStrict(semester);
-            if (!isStrictReleased) {
-                gradeListCache.evict(studentId, semester);
-                logger.warn("Grade inquiry rejected - policy changed to not released: semester={}", semester);
-                throw new IllegalStateException("성적 공개 기간이 아닙니다.");
-            }
+    /**
+     * Rows of several semesters for one student, as loaded for a transcript.
+     */
+    public record TranscriptRows(Map<String, GradeSummaryResponse> summaries,
+            Map<String, List<GradeDetailResponse>> gradeLists) {
+    }
+
+    /**
+     * Loads the given semesters with one IN query per table and caches them in one pipeline each.
+     * Release status is the caller's responsibility; semesters without a summary row are absent.
+     * Only the queries run in the read-only transaction; the replica connection is returned before
+     * the cache writes.
+     */
+    public TranscriptRows loadTranscriptRows(Long studentId, Collection<String> summarySemesters,
+            Collection<String> listSemesters) {
+        Map<String, GradeSummaryResponse> summaries = new HashMap<>();
+        Map<String, List<GradeDetailResponse>> gradeLists = new HashMap<>();
+        boolean laggingRead;
+        try {
+            laggingRead = Boolean.TRUE.equals(readOnlyTransaction.execute(status -> {
+                if (!summarySemesters.isEmpty()) {
+                    dbQueryTimerSummary.record(() -> gradeSummaryRepository
+                            .findSummariesByStudentIdAndSemesters(studentId, summarySemesters)
+                            .forEach(row -> summaries.put(row.getSemester(), gradeSummaryMapper.toDto(row))));
+                }
+                if (!listSemesters.isEmpty()) {
+                    listSemesters.forEach(semester -> gradeLists.put(semester, new ArrayList<>()));
+                    dbQueryTimerList.record(() -> gradeListRepository
+                            .findGradeDetailsByStudentIdAndSemesters(studentId, listSemesters)
+                            .forEach(row -> gradeLists.get(row.getSemester()).add(gradeDetailMapper.toDto(row))));
+                }
+                return ReplicaReadContext.isLaggingRead();
+            }));
+        } catch (Exception e) {
+            logger.error("Failed to load transcript from DB: semesters={}", summarySemesters.size(), e);
+            throw new RuntimeException("성적 요약 정보를 불러오는데 실패했습니다.", e);
         }
+        logger.debug("Cache MISS - Retrieved transcript from DB: summaries={}, lists={}",
+                summaries.size(), gradeLists.size());
 
-        return response;
+        ReplicaReadContext.replay(laggingRead, () -> {
+            gradeSummaryCache.putSemesters(studentId, summarySemesters, summaries);
+            gradeListCache.putSemesters(studentId, gradeLists);
+        });
+        return new TranscriptRows(summaries, gradeLists);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,57 @@
+package com.university.grade.service;
+
+import com.university.grade.repository.projection.GradeDetailProjection;
+import com.university.grade.repository.projection.StudentGradeDetailProjection;
+import com.university.grade.repository.query.GradeListQueryRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+/**
+ * Set-based replacement for running the per-student grade list JOIN in a loop.
+ * Rows come from a forward-only streaming cursor ordered by student_id and are handed to the
+ * consumer one student at a time, so memory stays flat regardless of cohort size.
+ * Callers must hold a read-only transaction for the duration of the call.
+ */
+@Component
+public class GradeListBatchLoader {
+
+    private final GradeListQueryRepository gradeListRepository;
+
+    public GradeListBatchLoader(GradeListQueryRepository gradeListRepository) {
+        this.gradeListRepository = gradeListRepository;
+    }
+
+    /**
+     * Streams every enrolment with {@code afterStudentId < student_id <= toStudentId}.
+     */
+    public void streamByStudentIdRange(String semester, long afterStudentId, long toStudentId,
+            BiConsumer<Long, List<GradeDetailProjection>> consumer) {
+        try (Stream<StudentGradeDetailProjection> rows = gradeListRepository
+                .streamGradeDetailsBySemesterAndStudentIdRange(semester, afterStudentId, toStudentId)) {
+            groupByStudent(rows, consumer);
+        }
+    }
+
+    private void groupByStudent(Stream<StudentGradeDetailProjection> rows,
+            BiConsumer<Long, List<GradeDetailProjection>> consumer) {
+        Long currentStudentId = null;
+        List<GradeDetailProjection> currentRows = new ArrayList<>();
+        var iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            StudentGradeDetailProjection row = iterator.next();
+            if (currentStudentId != null && !currentStudentId.equals(row.getStudentId())) {
+                consumer.accept(currentStudentId, currentRows);
+                currentRows = new ArrayList<>();
+            }
+            currentStudentId = row.getStudentId();
+            currentRows.add(row);
+        }
+        if (currentStudentId != null) {
+            consumer.accept(currentStudentId, currentRows);
+        }
+    }
+}
@@ -1,14 +1,25 @@
 package com.university.grade.service;
 
 import com.university.grade.cache.GradeReleasePolicyCache;
+import com.university.grade.repository.command.CacheInvalidationOutboxRepository;
 import com.university.grade.repository.command.GradeReleasePolicyCommandRepository;
 import com.university.grade.repository.projection.GradeReleasePolicyProjection;
+import com.university.grade.service.ReleasePolicies.Policy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -17,32 +28,66 @@ public class GradeReleasePolicyService {
 
     private final GradeReleasePolicyCache policyCache;
     private final GradeReleasePolicyCommandRepository policyCommandRepository;
+    private final CacheInvalidationOutboxRepository outboxRepository;
+    private final CacheWarmupService cacheWarmupService;
+    private final GradeReleasePolicySnapshot policySnapshot;
+    private final TransactionTemplate masterTransaction;
+    private final ZoneId releaseTimeZone;
 
     public GradeReleasePolicyService(
             GradeReleasePolicyCache policyCache,
-            GradeReleasePolicyCommandRepository policyCommandRepository) {
+            GradeReleasePolicyCommandRepository policyCommandRepository,
+            CacheInvalidationOutboxRepository outboxRepository,
+            CacheWarmupService cacheWarmupService,
+            GradeReleasePolicySnapshot policySnapshot,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.policy.release.time-zone:UTC}") ZoneId releaseTimeZone) {
         this.policyCache = policyCache;
         this.policyCommandRepository = policyCommandRepository;
+        this.outboxRepository = outboxRepository;
+        this.cacheWarmupService = cacheWarmupService;
+        this.policySnapshot = policySnapshot;
+        // Fallback reads must not join the caller's read-only (replica) transaction
+        this.masterTransaction = new TransactionTemplate(transactionManager);
+        this.masterTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.releaseTimeZone = releaseTimeZone;
     }
 
-    @Transactional(readOnly = false, propagation = Propagation.REQUIRES_NEW)
+    /**
+     * Served from the in-memory snapshot without a transaction; Redis and the Master are only
+     * consulted before the first snapshot load or for a semester the snapshot does not know.
+     */
     public boolean isGradeReleasedCached(String semester) {
-        return policyCache.getOrLoad(semester, () -> {
-            Optional<GradeReleasePolicyProjection> policyOpt = policyCommandRepository
-                    .findReleaseStatusBySemester(semester);
-            if (policyOpt.isEmpty()) {
-                logger.warn("Grade release policy not found for semester: {}", semester);
-                return false;
-            }
+        Optional<Boolean> snapshotted = policySnapshot.isReleased(semester);
+        if (snapshotted.isPresent()) {
+            return snapshotted.get();
+        }
+        Optional<Boolean> cached = policyCache.get(semester);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        return masterTransaction.execute(status -> loadGradeReleased(semester));
+    }
 
-            GradeReleasePolicyProjection policy = policyOpt.get();
-            Boolean isReleased = policy.getIsReleased();
+    private boolean loadGradeReleased(String semester) {
+        Optional<GradeReleasePolicyProjection> policyOpt = policyCommandRepository
+                .findReleaseStatusBySemester(semester);
+        if (policyOpt.isEmpty()) {
+            logger.warn("Grade release policy not found for semester: {}", semester);
+            policyCache.put(semester, false);
+            return false;
+        }
 
-            logger.debug("Retrieved and cached grade release policy from Master DB: semester={}, isReleased={}",
-                    semester, isReleased);
+        Policy policy = Policy.of(policyOpt.get().getIsReleased(), policyOpt.get().getReleaseAt(), releaseTimeZone);
+        Instant now = Instant.now();
+        boolean isReleased = policy.isReleasedAt(now);
+        // A pending scheduled release must not be hidden behind a cached "false"
+        policyCache.put(semester, isReleased, policy.pendingReleaseAt(now));
 
-            return isReleased;
-        });
+        logger.debug("Retrieved and cached grade release policy from Master DB: semester={}, isReleased={}",
+                semester, isReleased);
+
+        return isReleased;
     }
 
     @Transactional(readOnly = false, propagation = Propagation.REQUIRES_NEW)
@@ -55,11 +100,63 @@ public class GradeReleasePolicyService {
         }
 
         GradeReleasePolicyProjection policy = policyOpt.get();
-        Boolean isReleased = policy.getIsReleased();
+        boolean isReleased = Policy.of(policy.getIsReleased(), policy.getReleaseAt(), releaseTimeZone)
+                .isReleasedAt(Instant.now());
 
         logger.debug("Retrieved grade release policy from Master DB (strict): semester={}, isReleased={}",
                 semester, isReleased);
 
         return isReleased;
     }
-}
\ No newline at end of file
+
+    /**
+     * Released semesters, newest first; from the snapshot when loaded, otherwise from the Master.
+     */
+    public List<String> getReleasedSemesters() {
+        return policySnapshot.releasedSemesters().orElseGet(() -> masterTransaction.execute(status -> {
+            ReleasePolicies policies = ReleasePolicies.load(policyCommandRepository.findAllReleaseStatuses(),
+                    releaseTimeZone, Instant.now());
+            policyCache.putReleasedSemesters(policies.releasedSemesters(), policies.nextReleaseAt());
+            logger.debug("Retrieved and cached released semesters from Master DB: count={}",
+                    policies.releasedSemesters().size());
+            return policies.releasedSemesters();
+        }));
+    }
+
+    @Transactional(readOnly = false, propagation = Propagation.REQUIRES_NEW)
+    public List<String> getReleasedSemestersStrict() {
+        List<String> semesters = ReleasePolicies.load(policyCommandRepository.findAllReleaseStatuses(),
+                releaseTimeZone, Instant.now()).releasedSemesters();
+        logger.debug("Retrieved released semesters from Master DB (strict): count={}", semesters.size());
+        return semesters;
+    }
+
+    /**
+     * Manual release switch. Closing a semester also clears its release_at so the schedule cannot
+     * re-open it.
+     */
+    @Transactional
+    public void updateReleaseStatus(String semester, boolean isReleased) {
+        policyCommandRepository.updateReleaseStatus(semester, isReleased);
+        // Retries the eviction below if Redis is unavailable when it runs
+        outboxRepository.appendReleasePolicyChange(semester);
+        if (!isReleased) {
+            // Whatever was cached before the close must not be served after a re-release
+            outboxRepository.appendSemesterChange(semester);
+        }
+        logger.info("Grade release status updated: semester={}, isReleased={}", semester, isReleased);
+
+        // Evict and warm only once the new status is committed on the Master
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                policyCache.evict(semester);
+                policyCache.evictReleasedSemesters();
+                policySnapshot.publishChange(semester, isReleased);
+                if (isReleased) {
+                    cacheWarmupService.startWarmup(semester);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,313 @@
+package com.university.grade.service;
+
+import com.university.grade.cache.GradeReleasePolicyCache;
+import com.university.grade.repository.command.GradeReleasePolicyCommandRepository;
+import com.university.grade.service.ReleasePolicies.Policy;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Immutable in-memory copy of every GRADE_RELEASE_POLICY row, so the per-request release check is a
+ * plain map read. Reloaded from the Master on a fixed interval; status changes are applied on every
+ * pod right away through a Redis pub/sub message "{originId}|{semester}|{isReleased}", followed by
+ * a reload to reconcile. Until the first load (or for semesters not in the table) callers fall
+ * back to the Redis/DB path.
+ *
+ * Semesters with a future release_at are flipped by a task scheduled at that instant on every pod,
+ * and a cache warmup is started prewarm-lead before it.
+ */
+@Service
+public class GradeReleasePolicySnapshot implements MessageListener {
+    private static final Logger logger = LoggerFactory.getLogger(GradeReleasePolicySnapshot.class);
+    public static final String CHANGE_CHANNEL = "grade:policy:changed";
+    private static final String PREWARM_CLAIM_KEY_PREFIX = "grade:release:prewarm:";
+    private static final char SEPARATOR = '|';
+
+    private record Snapshot(ReleasePolicies policies, long loadedAtNanos) {
+    }
+
+    private record ScheduledRelease(Instant releaseAt, ScheduledFuture<?> prewarm, ScheduledFuture<?> flip) {
+
+        void cancel() {
+            if (prewarm != null) {
+                prewarm.cancel(false);
+            }
+            flip.cancel(false);
+        }
+    }
+
+    private final GradeReleasePolicyCommandRepository policyCommandRepository;
+    private final GradeReleasePolicyCache policyCache;
+    private final CacheWarmupService cacheWarmupService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final boolean enabled;
+    private final Duration refreshInterval;
+    private final Duration prewarmLead;
+    private final ZoneId releaseTimeZone;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Map<String, ScheduledRelease> scheduledReleases = new HashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    private volatile Snapshot snapshot;
+
+    public GradeReleasePolicySnapshot(
+            GradeReleasePolicyCommandRepository policyCommandRepository,
+            GradeReleasePolicyCache policyCache,
+            CacheWarmupService cacheWarmupService,
+            RedisTemplate<String, String> redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.policy.snapshot.enabled:true}") boolean enabled,
+            @Value("${app.policy.snapshot.refresh-interval:30s}") Duration refreshInterval,
+            @Value("${app.policy.release.prewarm-lead:10m}") Duration prewarmLead,
+            @Value("${app.policy.release.time-zone:UTC}") ZoneId releaseTimeZone) {
+        this.policyCommandRepository = policyCommandRepository;
+        this.policyCache = policyCache;
+        this.cacheWarmupService = cacheWarmupService;
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.refreshInterval = refreshInterval;
+        this.prewarmLead = prewarmLead;
+        this.releaseTimeZone = releaseTimeZone;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "policy-snapshot-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("grade.policy.snapshot.age", this, GradeReleasePolicySnapshot::ageSeconds)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+
+        logger.info("GradeReleasePolicySnapshot initialized with enabled={}, refreshInterval={}, prewarmLead={}",
+                enabled, refreshInterval, prewarmLead);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        scheduler.scheduleWithFixedDelay(this::refresh, 0, refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Evaluated against the current time, so a scheduled release applies at release_at even if the
+     * flip task runs late.
+     *
+     * @return empty if no snapshot is loaded yet or the semester has no policy row
+     */
+    public Optional<Boolean> isReleased(String semester) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return Optional.empty();
+        }
+        Policy policy = current.policies().policies().get(semester);
+        return policy == null ? Optional.empty() : Optional.of(policy.isReleasedAt(Instant.now()));
+    }
+
+    /**
+     * @return released semesters newest first, or empty if no snapshot is loaded yet
+     */
+    public Optional<List<String>> releasedSemesters() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return Optional.empty();
+        }
+        ReleasePolicies policies = current.policies();
+        Instant now = Instant.now();
+        if (policies.nextReleaseAt() != null && !now.isBefore(policies.nextReleaseAt())) {
+            // Flip task not run yet
+            policies = policies.at(now);
+        }
+        return Optional.of(policies.releasedSemesters());
+    }
+
+    /**
+     * Reloads every policy row. Runs outside any transaction, so the routing datasource sends it
+     * to the Master.
+     */
+    public void refresh() {
+        try {
+            ReleasePolicies loaded = ReleasePolicies.load(policyCommandRepository.findAllReleaseStatuses(),
+                    releaseTimeZone, Instant.now());
+            swap(loaded, System.nanoTime());
+            logger.debug("Release policy snapshot refreshed: semesters={}, released={}",
+                    loaded.policies().size(), loaded.releasedSemesters().size());
+        } catch (RuntimeException e) {
+            // Keep serving the previous snapshot; the next run retries
+            logger.warn("Release policy snapshot refresh failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Applies a committed status change locally and tells every other pod to apply it.
+     */
+    public void publishChange(String semester, boolean isReleased) {
+        apply(semester, isReleased);
+        try {
+            redisTemplate.convertAndSend(CHANGE_CHANNEL, instanceId + SEPARATOR + semester + SEPARATOR + isReleased);
+        } catch (Exception e) {
+            logger.warn("[Redis][PolicySnapshot] Change publish failure, other pods converge on refresh: {}",
+                    e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|");
+        if (parts.length != 3) {
+            logger.warn("[Redis][PolicySnapshot] Malformed change message ignored");
+            return;
+        }
+        if (instanceId.equals(parts[0])) {
+            return;
+        }
+        apply(parts[1], Boolean.parseBoolean(parts[2]));
+        logger.info("Release policy change received: semester={}, isReleased={}", parts[1], parts[2]);
+    }
+
+    private void apply(String semester, boolean isReleased) {
+        writeLock.lock();
+        try {
+            Snapshot current = snapshot;
+            if (current != null) {
+                // A manual close also clears release_at (see updateReleaseStatus)
+                Policy previous = current.policies().policies().get(semester);
+                Instant releaseAt = isReleased && previous != null ? previous.releaseAt() : null;
+                swap(current.policies().with(semester, new Policy(isReleased, releaseAt), Instant.now()),
+                        current.loadedAtNanos());
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        // A refresh that read the DB before the change committed may still swap in; reload once more
+        submit(this::refresh);
+    }
+
+    private void swap(ReleasePolicies policies, long loadedAtNanos) {
+        writeLock.lock();
+        try {
+            snapshot = new Snapshot(policies, loadedAtNanos);
+            scheduleReleases(policies);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Keeps one prewarm + flip task per pending release_at; tasks whose release_at changed or was
+     * cleared are cancelled. Caller holds the write lock.
+     */
+    private void scheduleReleases(ReleasePolicies policies) {
+        if (!enabled || scheduler.isShutdown()) {
+            return;
+        }
+        Instant now = Instant.now();
+        scheduledReleases.entrySet().removeIf(entry -> {
+            Policy policy = policies.policies().get(entry.getKey());
+            Instant pending = policy == null ? null : policy.pendingReleaseAt(now);
+            if (entry.getValue().releaseAt().equals(pending)) {
+                return false;
+            }
+            entry.getValue().cancel();
+            return true;
+        });
+        policies.policies().forEach((semester, policy) -> {
+            Instant releaseAt = policy.pendingReleaseAt(now);
+            if (releaseAt == null || scheduledReleases.containsKey(semester)) {
+                return;
+            }
+            long untilRelease = Duration.between(now, releaseAt).toMillis();
+            ScheduledFuture<?> prewarm = prewarmLead.isZero() ? null : scheduler.schedule(
+                    () -> prewarm(semester, releaseAt),
+                    Math.max(0, untilRelease - prewarmLead.toMillis()), TimeUnit.MILLISECONDS);
+            ScheduledFuture<?> flip = scheduler.schedule(() -> flip(semester, releaseAt),
+                    untilRelease, TimeUnit.MILLISECONDS);
+            scheduledReleases.put(semester, new ScheduledRelease(releaseAt, prewarm, flip));
+            logger.info("Scheduled release registered: semester={}, releaseAt={}", semester, releaseAt);
+        });
+    }
+
+    private void prewarm(String semester, Instant releaseAt) {
+        try {
+            // One pod per release runs the warmup; the claim outlives the release so late pods skip it
+            Duration claimTtl = Duration.between(Instant.now(), releaseAt).plus(prewarmLead);
+            Boolean claimed = redisTemplate.opsForValue().setIfAbsent(
+                    PREWARM_CLAIM_KEY_PREFIX + semester + ":" + releaseAt.toEpochMilli(), instanceId, claimTtl);
+            if (!Boolean.TRUE.equals(claimed)) {
+                return;
+            }
+        } catch (Exception e) {
+            logger.warn("[Redis][PolicySnapshot] Prewarm claim failure, skipping: semester={}, error={}",
+                    semester, e.getMessage());
+            return;
+        }
+        logger.info("Pre-warming caches for scheduled release: semester={}, releaseAt={}", semester, releaseAt);
+        cacheWarmupService.startWarmup(semester);
+    }
+
+    private void flip(String semester, Instant releaseAt) {
+        writeLock.lock();
+        try {
+            scheduledReleases.remove(semester);
+            Snapshot current = snapshot;
+            if (current != null) {
+                snapshot = new Snapshot(current.policies().at(Instant.now()), current.loadedAtNanos());
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        // Entries written before this release was scheduled may not be capped at release_at
+        policyCache.evict(semester);
+        policyCache.evictReleasedSemesters();
+        logger.info("Scheduled release reached: semester={}, releaseAt={}", semester, releaseAt);
+    }
+
+    private void submit(Runnable task) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            scheduler.execute(task);
+        } catch (RejectedExecutionException e) {
+            // Shutting down
+        }
+    }
+
+    private double ageSeconds() {
+        Snapshot current = snapshot;
+        return current == null ? Double.NaN : (System.nanoTime() - current.loadedAtNanos()) / 1_000_000_000.0;
+    }
+}
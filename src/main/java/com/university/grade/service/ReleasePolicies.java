@@ -0,0 +1,76 @@
+package com.university.grade.service;
+
+import com.university.grade.repository.projection.GradeReleaseStatusProjection;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Effective release state of the GRADE_RELEASE_POLICY rows, evaluated at one instant.
+ * A semester is released once is_released is set or its release_at has passed.
+ *
+ * @param nextReleaseAt earliest release_at still in the future, null if none is scheduled
+ */
+record ReleasePolicies(Map<String, Policy> policies, List<String> releasedSemesters, Instant nextReleaseAt) {
+
+    record Policy(boolean released, Instant releaseAt) {
+
+        static Policy of(Boolean isReleased, LocalDateTime releaseAt, ZoneId zone) {
+            return new Policy(Boolean.TRUE.equals(isReleased),
+                    releaseAt == null ? null : releaseAt.atZone(zone).toInstant());
+        }
+
+        boolean isReleasedAt(Instant now) {
+            return released || (releaseAt != null && !now.isBefore(releaseAt));
+        }
+
+        /**
+         * @return the instant this policy flips to released, null if it never will or already has
+         */
+        Instant pendingReleaseAt(Instant now) {
+            return isReleasedAt(now) ? null : releaseAt;
+        }
+    }
+
+    static ReleasePolicies load(List<GradeReleaseStatusProjection> rows, ZoneId zone, Instant now) {
+        Map<String, Policy> policies = new HashMap<>();
+        for (GradeReleaseStatusProjection row : rows) {
+            policies.put(row.getSemester(), Policy.of(row.getIsReleased(), row.getReleaseAt(), zone));
+        }
+        return evaluate(policies, now);
+    }
+
+    static ReleasePolicies evaluate(Map<String, Policy> policies, Instant now) {
+        Instant next = null;
+        for (Policy policy : policies.values()) {
+            Instant pending = policy.pendingReleaseAt(now);
+            if (pending != null && (next == null || pending.isBefore(next))) {
+                next = pending;
+            }
+        }
+        List<String> released = policies.entrySet().stream()
+                .filter(entry -> entry.getValue().isReleasedAt(now))
+                .map(Map.Entry::getKey)
+                .sorted(Comparator.reverseOrder())
+                .toList();
+        return new ReleasePolicies(Map.copyOf(policies), released, next);
+    }
+
+    /**
+     * Re-evaluates the same rows at a later instant (after a scheduled release has passed).
+     */
+    ReleasePolicies at(Instant now) {
+        return evaluate(policies, now);
+    }
+
+    ReleasePolicies with(String semester, Policy policy, Instant now) {
+        Map<String, Policy> updated = new HashMap<>(policies);
+        updated.put(semester, policy);
+        return evaluate(updated, now);
+    }
+}